@@ -1,5 +1,6 @@
 plugins {
   id("adventure.common-conventions")
+  `java-test-fixtures`
   alias(libs.plugins.jmh)
 }
 
@@ -18,4 +19,9 @@ dependencies {
   annotationProcessor(projects.adventureAnnotationProcessors)
 }
 
+// fixtures are shared with the benchmark suites of other modules, but are not published
+val javaComponent = components["java"] as AdhocComponentWithVariants
+javaComponent.withVariantsFromConfiguration(configurations.testFixturesApiElements.get()) { skip() }
+javaComponent.withVariantsFromConfiguration(configurations.testFixturesRuntimeElements.get()) { skip() }
+
 applyJarMetadata("net.kyori.adventure")
@@ -46,6 +46,8 @@ import org.jetbrains.annotations.Nullable;
 public abstract class AbstractComponent implements Component {
   protected final List<Component> children;
   protected final Style style;
+  // components are immutable, so the (recursive) hash of the children and style only needs computing once, on first use
+  private int hashCode;
 
   protected AbstractComponent(final @NotNull List<? extends ComponentLike> children, final @NotNull Style style) {
     this.children = ComponentLike.asComponents(children, IS_NOT_EMPTY);
@@ -67,15 +69,31 @@ public abstract class AbstractComponent implements Component {
     if (this == other) return true;
     if (!(other instanceof AbstractComponent)) return false;
     final AbstractComponent that = (AbstractComponent) other;
-    return Objects.equals(this.children, that.children)
+    if (this.hashCode != 0 && that.hashCode != 0 && this.hashCode != that.hashCode) return false;
+    return equals(this.children, that.children)
       && Objects.equals(this.style, that.style);
   }
 
+  private static boolean equals(final List<Component> a, final List<Component> b) {
+    if (a == b) return true;
+    final int size = a.size();
+    if (size != b.size()) return false;
+    for (int i = 0; i < size; i++) {
+      final Component ac = a.get(i);
+      final Component bc = b.get(i);
+      if (ac != bc && !ac.equals(bc)) return false;
+    }
+    return true;
+  }
+
   @Override
   public int hashCode() {
-    int result = this.children.hashCode();
-    result = (31 * result) + this.style.hashCode();
-    return result;
+    int hashCode = this.hashCode;
+    if (hashCode == 0) {
+      hashCode = (31 * this.children.hashCode()) + this.style.hashCode();
+      this.hashCode = hashCode;
+    }
+    return hashCode;
   }
 
   @Override
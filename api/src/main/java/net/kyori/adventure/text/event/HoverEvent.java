@@ -25,6 +25,7 @@ package net.kyori.adventure.text.event;
 
 import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
 import net.kyori.adventure.internal.Internals;
@@ -222,12 +223,38 @@ public final class HoverEvent<V> implements Examinable, HoverEventSource<V>, Sty
     return new HoverEvent<>(action, value);
   }
 
+  /**
+   * Creates a hover event with a value that is only computed when first needed.
+   *
+   * <p>This lets a serializer defer decoding a value that may never be looked at. The supplier
+   * is called at most once, and must not return {@code null}.</p>
+   *
+   * @param action the action
+   * @param value the supplier of the value
+   * @param <V> the value type
+   * @return a hover event
+   * @see #pendingValue()
+   * @since 4.13.0
+   */
+  public static <V> @NotNull HoverEvent<V> lazyHoverEvent(final @NotNull Action<V> action, final @NotNull Supplier<? extends V> value) {
+    return new HoverEvent<>(action, requireNonNull(value, "value"));
+  }
+
   private final Action<V> action;
-  private final V value;
+  // exactly one of these is set, so an eager value is always safely published
+  private final @Nullable V value;
+  private final @Nullable LazyValue<V> lazy;
 
   private HoverEvent(final @NotNull Action<V> action, final @NotNull V value) {
     this.action = requireNonNull(action, "action");
     this.value = requireNonNull(value, "value");
+    this.lazy = null;
+  }
+
+  private HoverEvent(final @NotNull Action<V> action, final @NotNull Supplier<? extends V> pending) {
+    this.action = requireNonNull(action, "action");
+    this.value = null;
+    this.lazy = new LazyValue<>(pending);
   }
 
   /**
@@ -247,7 +274,19 @@ public final class HoverEvent<V> implements Examinable, HoverEventSource<V>, Sty
    * @since 4.0.0
    */
   public @NotNull V value() {
-    return this.value;
+    return this.lazy == null ? this.value : this.lazy.get();
+  }
+
+  /**
+   * Gets the supplier of a {@link #lazyHoverEvent(Action, Supplier) lazily computed} value, if the value has not been computed yet.
+   *
+   * <p>A serializer can use this to write out a value in the form it was read in, without computing it.</p>
+   *
+   * @return the supplier of the value, or {@code null} if the value is already known
+   * @since 4.13.0
+   */
+  public @Nullable Supplier<? extends V> pendingValue() {
+    return this.lazy == null ? null : this.lazy.pending;
   }
 
   /**
@@ -271,7 +310,7 @@ public final class HoverEvent<V> implements Examinable, HoverEventSource<V>, Sty
    * @since 4.0.0
    */
   public <C> @NotNull HoverEvent<V> withRenderedValue(final @NotNull ComponentRenderer<C> renderer, final @NotNull C context) {
-    final V oldValue = this.value;
+    final V oldValue = this.value();
     final V newValue = this.action.renderer.render(renderer, context, oldValue);
     if (newValue != oldValue) return new HoverEvent<>(this.action, newValue);
     return this;
@@ -285,7 +324,7 @@ public final class HoverEvent<V> implements Examinable, HoverEventSource<V>, Sty
   @Override
   public @NotNull HoverEvent<V> asHoverEvent(final @NotNull UnaryOperator<V> op) {
     if (op == UnaryOperator.<V>identity()) return this; // nothing to do, can return ourself
-    return new HoverEvent<>(this.action, op.apply(this.value));
+    return new HoverEvent<>(this.action, op.apply(this.value()));
   }
 
   @Override
@@ -298,13 +337,13 @@ public final class HoverEvent<V> implements Examinable, HoverEventSource<V>, Sty
     if (this == other) return true;
     if (other == null || this.getClass() != other.getClass()) return false;
     final HoverEvent<?> that = (HoverEvent<?>) other;
-    return this.action == that.action && this.value.equals(that.value);
+    return this.action == that.action && this.value().equals(that.value());
   }
 
   @Override
   public int hashCode() {
     int result = this.action.hashCode();
-    result = (31 * result) + this.value.hashCode();
+    result = (31 * result) + this.value().hashCode();
     return result;
   }
 
@@ -312,7 +351,7 @@ public final class HoverEvent<V> implements Examinable, HoverEventSource<V>, Sty
   public @NotNull Stream<? extends ExaminableProperty> examinableProperties() {
     return Stream.of(
       ExaminableProperty.of("action", this.action),
-      ExaminableProperty.of("value", this.value)
+      ExaminableProperty.of("value", this.value())
     );
   }
 
@@ -321,6 +360,30 @@ public final class HoverEvent<V> implements Examinable, HoverEventSource<V>, Sty
     return Internals.toString(this);
   }
 
+  // a value computed at most once, on first use
+  private static final class LazyValue<V> {
+    // cleared once the value has been computed, which publishes the value
+    volatile @Nullable Supplier<? extends V> pending;
+    private @Nullable V value;
+
+    LazyValue(final @NotNull Supplier<? extends V> pending) {
+      this.pending = pending;
+    }
+
+    @NotNull V get() {
+      if (this.pending != null) {
+        synchronized (this) {
+          final @Nullable Supplier<? extends V> pending = this.pending;
+          if (pending != null) {
+            this.value = requireNonNull(pending.get(), "value");
+            this.pending = null;
+          }
+        }
+      }
+      return this.value;
+    }
+  }
+
   /**
    * The value of a {@link Action#SHOW_ITEM show_item} hover event.
    *
@@ -0,0 +1,158 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2022 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text.renderer;
+
+import java.text.AttributedCharacterIterator;
+import java.text.MessageFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.ComponentBuilder;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A {@link MessageFormat} split into runs of literal text and argument slots.
+ *
+ * <p>Arguments to translatable components are components, so the renderer never lets a message format
+ * apply its sub-formats to them. This means a format always renders to the same literal text around its
+ * arguments, which can be computed once and shared between threads without locking.</p>
+ *
+ * <p>Templates are compiled by translators that hold on to their formats, such as a
+ * {@link net.kyori.adventure.translation.TranslationRegistry}, when a format is registered.</p>
+ *
+ * @since 4.13.0
+ */
+@ApiStatus.Internal
+public final class MessageFormatTemplate {
+  private final String text;
+  // literal text for literal runs, null for argument slots
+  private final @Nullable String[] literals;
+  private final int[] arguments;
+
+  /**
+   * Compiles a template from a message format.
+   *
+   * <p>The template reflects the format as it is now, later changes to the format are not seen.</p>
+   *
+   * @param format the format
+   * @return the template
+   * @since 4.13.0
+   */
+  @SuppressWarnings("JdkObsolete") // MessageFormat requires StringBuffer in its api
+  public static @NotNull MessageFormatTemplate compile(final @NotNull MessageFormat format) {
+    final String text = format.format(null, new StringBuffer(), null).toString();
+    final Object[] nulls = new Object[format.getFormatsByArgumentIndex().length];
+    final StringBuffer sb = format.format(nulls, new StringBuffer(), null);
+    final AttributedCharacterIterator it = format.formatToCharacterIterator(nulls);
+
+    int size = 0;
+    final String[] literals = new String[(2 * format.getFormats().length) + 1];
+    final int[] arguments = new int[literals.length];
+    while (it.getIndex() < it.getEndIndex()) {
+      final int end = it.getRunLimit();
+      final Integer index = (Integer) it.getAttribute(MessageFormat.Field.ARGUMENT);
+      if (index != null) {
+        arguments[size] = index;
+      } else {
+        literals[size] = sb.substring(it.getIndex(), end);
+        arguments[size] = -1;
+      }
+      size++;
+      it.setIndex(end);
+    }
+
+    final String[] trimmedLiterals = new String[size];
+    final int[] trimmedArguments = new int[size];
+    System.arraycopy(literals, 0, trimmedLiterals, 0, size);
+    System.arraycopy(arguments, 0, trimmedArguments, 0, size);
+    return new MessageFormatTemplate(text, trimmedLiterals, trimmedArguments);
+  }
+
+  private MessageFormatTemplate(final @NotNull String text, final @Nullable String[] literals, final int[] arguments) {
+    this.text = text;
+    this.literals = literals;
+    this.arguments = arguments;
+  }
+
+  /**
+   * Gets the text of this template when formatted without any arguments.
+   *
+   * @return the text
+   */
+  @NotNull String text() {
+    return this.text;
+  }
+
+  /**
+   * Appends the literal runs of this template and the rendered arguments to a builder.
+   *
+   * <p>Argument slots without a matching argument are kept as literal text, just like
+   * {@link MessageFormat} does.</p>
+   *
+   * @param builder the builder
+   * @param args the arguments
+   * @param renderer the function rendering an argument
+   */
+  void appendTo(final @NotNull ComponentBuilder<?, ?> builder, final @NotNull List<Component> args, final @NotNull Function<Component, Component> renderer) {
+    final int argCount = args.size();
+    String pending = null;
+    for (int i = 0; i < this.arguments.length; i++) {
+      final int index = this.arguments[i];
+      if (index >= 0 && index < argCount) {
+        if (pending != null) {
+          builder.append(Component.text(pending));
+          pending = null;
+        }
+        builder.append(renderer.apply(args.get(index)));
+      } else {
+        final String literal = index >= 0 ? "{" + index + "}" : this.literals[i];
+        pending = pending == null ? literal : pending + literal;
+      }
+    }
+    if (pending != null) {
+      builder.append(Component.text(pending));
+    }
+  }
+
+  /**
+   * A translator which keeps a compiled template next to each of its formats.
+   *
+   * @since 4.13.0
+   */
+  @ApiStatus.Internal
+  public interface Source {
+    /**
+     * Gets the template of the format that {@link net.kyori.adventure.translation.Translator#translate(String, Locale)} would return.
+     *
+     * @param key the translation key
+     * @param locale the locale
+     * @return the template, or {@code null} if there is no translation or no template for it
+     * @since 4.13.0
+     */
+    @Nullable MessageFormatTemplate translateTemplate(final @NotNull String key, final @NotNull Locale locale);
+  }
+}
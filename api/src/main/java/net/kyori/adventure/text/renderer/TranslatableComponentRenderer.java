@@ -68,6 +68,20 @@ public abstract class TranslatableComponentRenderer<C> extends AbstractComponent
    */
   public static @NotNull TranslatableComponentRenderer<Locale> usingTranslationSource(final @NotNull Translator source) {
     requireNonNull(source, "source");
+    if (source instanceof MessageFormatTemplate.Source) {
+      final MessageFormatTemplate.Source templates = (MessageFormatTemplate.Source) source;
+      return new TranslatableComponentRenderer<Locale>() {
+        @Override
+        protected @Nullable MessageFormat translate(final @NotNull String key, final @NotNull Locale context) {
+          return source.translate(key, context);
+        }
+
+        @Override
+        @Nullable MessageFormatTemplate translateTemplate(final @NotNull String key, final @NotNull Locale context) {
+          return templates.translateTemplate(key, context);
+        }
+      };
+    }
     return new TranslatableComponentRenderer<Locale>() {
       @Override
       protected @Nullable MessageFormat translate(final @NotNull String key, final @NotNull Locale context) {
@@ -145,9 +159,32 @@ public abstract class TranslatableComponentRenderer<C> extends AbstractComponent
     return this.mergeStyleAndOptionallyDeepRender(component, builder, context);
   }
 
+  /**
+   * Gets the compiled template of the message format for a key and context, if the translation source keeps one.
+   *
+   * @param key the translation key
+   * @param context the context
+   * @return the template, or {@code null} to render from {@link #translate(String, Object)} instead
+   */
+  @Nullable MessageFormatTemplate translateTemplate(final @NotNull String key, final @NotNull C context) {
+    return null;
+  }
+
   @Override
   @SuppressWarnings("JdkObsolete") // MessageFormat requires StringBuffer in its api
   protected @NotNull Component renderTranslatable(final @NotNull TranslatableComponent component, final @NotNull C context) {
+    final @Nullable MessageFormatTemplate template = this.translateTemplate(component.key(), context);
+    if (template != null) {
+      final TextComponent.Builder builder = Component.text();
+      this.mergeStyle(component, builder, context);
+      if (component.args().isEmpty()) {
+        builder.content(template.text());
+      } else {
+        template.appendTo(builder, component.args(), arg -> this.render(arg, context));
+      }
+      return this.optionallyRenderChildrenAppendAndBuild(component.children(), builder, context);
+    }
+
     final @Nullable MessageFormat format = this.translate(component.key(), context);
     if (format == null) {
       // we don't have a translation for this component, but the arguments or children
@@ -0,0 +1,102 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2022 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.translation;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.renderer.ComponentRenderer;
+import org.jetbrains.annotations.NotNull;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A renderer that remembers the results of another renderer per component and context.
+ *
+ * <p>Components cache their hash code, so looking up a previously rendered component is cheap
+ * even for deep trees. The cache is bounded - once full, it is discarded and filled again.</p>
+ *
+ * @param <C> the context type
+ */
+final class CachingComponentRenderer<C> implements ComponentRenderer<C> {
+  private final ComponentRenderer<C> renderer;
+  private final int maximumSize;
+  // replaced rather than cleared, so renders racing an invalidation can never store a stale result
+  private volatile Map<Key<C>, Component> cache = new ConcurrentHashMap<>();
+
+  CachingComponentRenderer(final @NotNull ComponentRenderer<C> renderer, final int maximumSize) {
+    this.renderer = requireNonNull(renderer, "renderer");
+    this.maximumSize = maximumSize;
+  }
+
+  @Override
+  public @NotNull Component render(final @NotNull Component component, final @NotNull C context) {
+    final Map<Key<C>, Component> cache = this.cache;
+    final Key<C> key = new Key<>(requireNonNull(component, "component"), requireNonNull(context, "context"));
+    final Component cached = cache.get(key);
+    if (cached != null) return cached;
+
+    final Component rendered = this.renderer.render(component, context);
+    if (cache.size() >= this.maximumSize) {
+      this.invalidate();
+    } else {
+      cache.putIfAbsent(key, rendered);
+    }
+    return rendered;
+  }
+
+  /**
+   * Discards all cached render results.
+   */
+  void invalidate() {
+    this.cache = new ConcurrentHashMap<>();
+  }
+
+  static final class Key<C> {
+    private final Component component;
+    private final C context;
+    private final int hashCode;
+
+    Key(final Component component, final C context) {
+      this.component = component;
+      this.context = context;
+      this.hashCode = (31 * component.hashCode()) + context.hashCode();
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+      if (this == other) return true;
+      if (!(other instanceof Key<?>)) return false;
+      final Key<?> that = (Key<?>) other;
+      return this.hashCode == that.hashCode
+        && this.context.equals(that.context)
+        && this.component.equals(that.component);
+    }
+
+    @Override
+    public int hashCode() {
+      return this.hashCode;
+    }
+  }
+}
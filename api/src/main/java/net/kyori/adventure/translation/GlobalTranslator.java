@@ -27,6 +27,7 @@ import java.util.Locale;
 import net.kyori.adventure.audience.Audience;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.TranslatableComponent;
+import net.kyori.adventure.text.renderer.ComponentRenderer;
 import net.kyori.adventure.text.renderer.TranslatableComponentRenderer;
 import net.kyori.examination.Examinable;
 import org.jetbrains.annotations.ApiStatus;
@@ -75,6 +76,23 @@ public interface GlobalTranslator extends Translator, Examinable {
     return GlobalTranslatorImpl.INSTANCE.renderer;
   }
 
+  /**
+   * Gets a renderer which uses the global source for translating, and caches what it renders.
+   *
+   * <p>Rendered components are cached per component and locale, so rendering the same component for many
+   * audiences that share a locale only renders it once. The cache is bounded, and is cleared whenever a source is
+   * added or removed, or a {@link TranslationRegistry} is modified.</p>
+   *
+   * <p>Sources whose translations can change by any other means should be removed and re-added after changing
+   * to clear the cache.</p>
+   *
+   * @return a caching renderer
+   * @since 4.13.0
+   */
+  static @NotNull ComponentRenderer<Locale> cachingRenderer() {
+    return GlobalTranslatorImpl.INSTANCE.cachingRenderer;
+  }
+
   /**
    * Renders a component using the {@link #renderer() global renderer}.
    *
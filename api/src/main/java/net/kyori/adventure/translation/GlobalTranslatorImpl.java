@@ -26,10 +26,13 @@ package net.kyori.adventure.translation;
 import java.text.MessageFormat;
 import java.util.Collections;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 import net.kyori.adventure.key.Key;
+import net.kyori.adventure.text.renderer.ComponentRenderer;
+import net.kyori.adventure.text.renderer.MessageFormatTemplate;
 import net.kyori.adventure.text.renderer.TranslatableComponentRenderer;
 import net.kyori.examination.ExaminableProperty;
 import org.jetbrains.annotations.NotNull;
@@ -37,11 +40,28 @@ import org.jetbrains.annotations.Nullable;
 
 import static java.util.Objects.requireNonNull;
 
-final class GlobalTranslatorImpl implements GlobalTranslator {
+final class GlobalTranslatorImpl implements GlobalTranslator, MessageFormatTemplate.Source {
   private static final Key NAME = Key.key("adventure", "global");
+  private static final int MAXIMUM_CACHED_RENDERS = 4096;
+  private static final int MAXIMUM_CACHED_TRANSLATIONS = 16384;
+  private static final Object NO_TRANSLATION = new Object();
   static final GlobalTranslatorImpl INSTANCE = new GlobalTranslatorImpl();
   final TranslatableComponentRenderer<Locale> renderer = TranslatableComponentRenderer.usingTranslationSource(this);
+  private final CachingComponentRenderer<Locale> renderCache = new CachingComponentRenderer<>(this.renderer, MAXIMUM_CACHED_RENDERS);
+  final ComponentRenderer<Locale> cachingRenderer = (component, locale) -> {
+    // other translators never tell us when their translations change, so renders using them cannot be kept
+    if (!this.cacheable) return this.renderer.render(component, locale);
+    this.checkGlobalLocale();
+    return this.renderCache.render(component, locale);
+  };
   private final Set<Translator> sources = Collections.newSetFromMap(new ConcurrentHashMap<>());
+  // a snapshot of the sources, updated whenever a source is added or removed
+  private volatile Translator[] sourcesArray = new Translator[0];
+  // only registries tell us when their translations change, so we can only cache when every source is one
+  private volatile boolean cacheable = true;
+  private volatile Map<Resolution, Object> resolutions = new ConcurrentHashMap<>();
+  // every fallback chain ends in the global locale, which may follow the JVM default, so cached results depend on it
+  private volatile Locale globalLocale = TranslationLocales.global();
 
   private GlobalTranslatorImpl() {
   }
@@ -60,20 +80,115 @@ final class GlobalTranslatorImpl implements GlobalTranslator {
   public boolean addSource(final @NotNull Translator source) {
     requireNonNull(source, "source");
     if (source == this) throw new IllegalArgumentException("GlobalTranslationSource");
-    return this.sources.add(source);
+    synchronized (this.sources) {
+      if (!this.sources.add(source)) return false;
+      this.sourcesChanged();
+    }
+    return true;
   }
 
   @Override
   public boolean removeSource(final @NotNull Translator source) {
     requireNonNull(source, "source");
-    return this.sources.remove(source);
+    synchronized (this.sources) {
+      if (!this.sources.remove(source)) return false;
+      this.sourcesChanged();
+    }
+    return true;
+  }
+
+  private void sourcesChanged() {
+    final Translator[] sources = this.sources.toArray(new Translator[0]);
+    boolean cacheable = true;
+    for (final Translator source : sources) {
+      if (!(source instanceof TranslationRegistryImpl)) {
+        cacheable = false;
+        break;
+      }
+    }
+    this.sourcesArray = sources;
+    this.cacheable = cacheable;
+    this.invalidate();
+  }
+
+  /**
+   * Discards anything cached from the current set of translations.
+   *
+   * <p>Called when a source is added or removed, and when the global locale changes.</p>
+   */
+  void invalidate() {
+    this.resolutions = new ConcurrentHashMap<>();
+    this.renderCache.invalidate();
+  }
+
+  /**
+   * Discards anything cached if {@code source} is currently one of our sources.
+   *
+   * <p>Called when a {@link TranslationRegistry} is modified.</p>
+   *
+   * @param source the modified translator
+   */
+  void invalidate(final @NotNull Translator source) {
+    for (final Translator existing : this.sourcesArray) {
+      if (existing == source) {
+        this.invalidate();
+        return;
+      }
+    }
+  }
+
+  private void checkGlobalLocale() {
+    final Locale global = TranslationLocales.global();
+    if (!global.equals(this.globalLocale)) {
+      this.globalLocale = global;
+      this.invalidate();
+    }
   }
 
   @Override
   public @Nullable MessageFormat translate(final @NotNull String key, final @NotNull Locale locale) {
     requireNonNull(key, "key");
     requireNonNull(locale, "locale");
-    for (final Translator source : this.sources) {
+    if (!this.cacheable) return this.resolve(key, locale);
+    final TranslationRegistryImpl.CompiledFormat compiled = this.compiled(key, locale);
+    return compiled == null ? null : compiled.format;
+  }
+
+  @Override
+  public @Nullable MessageFormatTemplate translateTemplate(final @NotNull String key, final @NotNull Locale locale) {
+    requireNonNull(key, "key");
+    requireNonNull(locale, "locale");
+    if (!this.cacheable) return null; // other translators do not keep templates, so the renderer formats their translations itself
+    final TranslationRegistryImpl.CompiledFormat compiled = this.compiled(key, locale);
+    return compiled == null ? null : compiled.template;
+  }
+
+  // only called while every source is a registry
+  private TranslationRegistryImpl.@Nullable CompiledFormat compiled(final @NotNull String key, final @NotNull Locale locale) {
+    this.checkGlobalLocale();
+
+    final Map<Resolution, Object> resolutions = this.resolutions;
+    final Resolution resolution = new Resolution(key, locale);
+    final Object cached = resolutions.get(resolution);
+    if (cached != null) return cached == NO_TRANSLATION ? null : (TranslationRegistryImpl.CompiledFormat) cached;
+
+    TranslationRegistryImpl.CompiledFormat translation = null;
+    for (final Translator source : this.sourcesArray) {
+      if (source instanceof TranslationRegistryImpl) {
+        translation = ((TranslationRegistryImpl) source).compiled(key, locale);
+        if (translation != null) break;
+      }
+    }
+    if (resolutions.size() >= MAXIMUM_CACHED_TRANSLATIONS) {
+      this.resolutions = new ConcurrentHashMap<>();
+    } else {
+      resolutions.putIfAbsent(resolution, translation == null ? NO_TRANSLATION : translation);
+    }
+    return translation;
+  }
+
+  private @Nullable MessageFormat resolve(final @NotNull String key, final @NotNull Locale locale) {
+    for (final Translator source : this.sourcesArray) {
       final MessageFormat translation = source.translate(key, locale);
       if (translation != null) return translation;
     }
@@ -84,4 +199,29 @@ final class GlobalTranslatorImpl implements GlobalTranslator {
   public @NotNull Stream<? extends ExaminableProperty> examinableProperties() {
     return Stream.of(ExaminableProperty.of("sources", this.sources));
   }
+
+  static final class Resolution {
+    private final String key;
+    private final Locale locale;
+    private final int hashCode;
+
+    Resolution(final String key, final Locale locale) {
+      this.key = key;
+      this.locale = locale;
+      this.hashCode = (31 * key.hashCode()) + locale.hashCode();
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+      if (this == other) return true;
+      if (!(other instanceof Resolution)) return false;
+      final Resolution that = (Resolution) other;
+      return this.key.equals(that.key) && this.locale.equals(that.locale);
+    }
+
+    @Override
+    public int hashCode() {
+      return this.hashCode;
+    }
+  }
 }
@@ -186,6 +186,27 @@ public interface TranslationRegistry extends Translator {
     });
   }
 
+  /**
+   * Registers every resource bundle in a directory.
+   *
+   * <p>Every file in {@code directory} named {@code <bundleName>_<locale>.properties}, such as {@code messages_en_US.properties},
+   * is registered for its locale. Files are read and parsed in parallel, and each is then registered as a single batch.</p>
+   *
+   * <p>Files are expected to be encoded in UTF-8. Files that cannot be read are reported once every other file has been registered.</p>
+   *
+   * @param directory a directory containing resource bundles
+   * @param bundleName the base name of the resource bundles
+   * @param escapeSingleQuotes whether to escape single quotes
+   * @param lazy whether message formats may be created when a translation is first used rather than up front,
+   *     patterns are checked while loading either way
+   * @throws IllegalArgumentException if the directory or a file in it cannot be read, a pattern is invalid, or a translation key already exists
+   * @see #registerAll(Locale, Path, boolean)
+   * @since 4.13.0
+   */
+  default void registerAll(final @NotNull Path directory, final @NotNull String bundleName, final boolean escapeSingleQuotes, final boolean lazy) {
+    TranslationRegistryImpl.registerBundles(TranslationRegistryImpl.readBundles(directory, bundleName, escapeSingleQuotes, MessageFormat::new), this::registerAll);
+  }
+
   /**
    * Registers a resource bundle of translations.
    *
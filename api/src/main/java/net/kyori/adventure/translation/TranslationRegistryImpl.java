@@ -23,14 +23,31 @@
  */
 package net.kyori.adventure.translation;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.PropertyResourceBundle;
+import java.util.ResourceBundle;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import net.kyori.adventure.internal.Internals;
 import net.kyori.adventure.key.Key;
+import net.kyori.adventure.text.renderer.MessageFormatTemplate;
 import net.kyori.examination.Examinable;
 import net.kyori.examination.ExaminableProperty;
 import org.jetbrains.annotations.NotNull;
@@ -38,10 +55,13 @@ import org.jetbrains.annotations.Nullable;
 
 import static java.util.Objects.requireNonNull;
 
-final class TranslationRegistryImpl implements Examinable, TranslationRegistry {
+final class TranslationRegistryImpl implements Examinable, MessageFormatTemplate.Source, TranslationRegistry {
+  private static final String PROPERTIES_EXTENSION = ".properties";
+  private static final int MAXIMUM_CACHED_FALLBACKS = 256;
   private final Key name;
   private final Map<String, Translation> translations = new ConcurrentHashMap<>();
-  private Locale defaultLocale = Locale.US; // en_us
+  private volatile Locale defaultLocale = Locale.US; // en_us
+  private volatile Map<Locale, Locale[]> fallbacks = new ConcurrentHashMap<>();
 
   TranslationRegistryImpl(final Key name) {
     this.name = name;
@@ -49,12 +69,122 @@ final class TranslationRegistryImpl implements Examinable, TranslationRegistry {
 
   @Override
   public void register(final @NotNull String key, final @NotNull Locale locale, final @NotNull MessageFormat format) {
-    this.translations.computeIfAbsent(key, Translation::new).register(locale, format);
+    this.translations.computeIfAbsent(key, Translation::new).register(locale, new CompiledFormat(format));
+    GlobalTranslatorImpl.INSTANCE.invalidate(this);
+  }
+
+  @Override
+  public void registerAll(final @NotNull Path directory, final @NotNull String bundleName, final boolean escapeSingleQuotes, final boolean lazy) {
+    final List<Bundle<Object>> bundles = readBundles(directory, bundleName, escapeSingleQuotes, lazy ? LazyFormat::lazyIfValid : CompiledFormat::create);
+    try {
+      for (final Bundle<Object> bundle : bundles) {
+        bundle.formats.forEach((key, format) -> {
+          try {
+            this.translations.computeIfAbsent(key, Translation::new).register(bundle.locale, format);
+          } catch (final IllegalArgumentException e) {
+            bundle.errors.add(e);
+          }
+        });
+      }
+    } finally {
+      GlobalTranslatorImpl.INSTANCE.invalidate(this);
+    }
+    throwErrors(bundles);
+  }
+
+  /**
+   * Reads and parses, in parallel, every resource bundle in {@code directory} named {@code <bundleName>_<locale>.properties}.
+   *
+   * @param directory the directory
+   * @param bundleName the base name of the bundles
+   * @param escapeSingleQuotes whether to escape single quotes
+   * @param format a function creating a format from a pattern and locale
+   * @param <F> the format type
+   * @return the bundles
+   */
+  static <F> @NotNull List<Bundle<F>> readBundles(final @NotNull Path directory, final @NotNull String bundleName, final boolean escapeSingleQuotes, final @NotNull BiFunction<String, Locale, ? extends F> format) {
+    final String prefix = requireNonNull(bundleName, "bundleName") + '_';
+    final List<Path> files = new ArrayList<>();
+    try (final DirectoryStream<Path> stream = Files.newDirectoryStream(requireNonNull(directory, "directory"), file -> {
+      final String name = file.getFileName().toString();
+      return name.startsWith(prefix) && name.endsWith(PROPERTIES_EXTENSION);
+    })) {
+      stream.forEach(files::add);
+    } catch (final IOException e) {
+      throw new IllegalArgumentException("Could not list the resource bundles in " + directory, e);
+    }
+    return files.parallelStream()
+      .map(file -> TranslationRegistryImpl.<F>readBundle(file, prefix, escapeSingleQuotes, format))
+      .filter(Objects::nonNull)
+      .collect(Collectors.toList());
+  }
+
+  private static <F> @Nullable Bundle<F> readBundle(final @NotNull Path file, final @NotNull String prefix, final boolean escapeSingleQuotes, final @NotNull BiFunction<String, Locale, ? extends F> format) {
+    final String name = file.getFileName().toString();
+    final Locale locale = Translator.parseLocale(name.substring(prefix.length(), name.length() - PROPERTIES_EXTENSION.length()));
+    if (locale == null) return null;
+    final Bundle<F> bundle = new Bundle<>(locale);
+    final ResourceBundle resources;
+    try (final BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+      resources = new PropertyResourceBundle(reader);
+    } catch (final IOException e) {
+      bundle.errors.add(new IllegalArgumentException("Could not read resource bundle " + file, e));
+      return bundle;
+    }
+    for (final String key : resources.keySet()) {
+      final String pattern = resources.getString(key);
+      try {
+        bundle.formats.put(key, format.apply(escapeSingleQuotes ? SINGLE_QUOTE_PATTERN.matcher(pattern).replaceAll("''") : pattern, locale));
+      } catch (final IllegalArgumentException e) {
+        bundle.errors.add(e);
+      }
+    }
+    return bundle;
+  }
+
+  /**
+   * Registers each bundle as a batch, and then reports any errors found while reading or registering them.
+   *
+   * @param bundles the bundles
+   * @param registrar the function registering a batch of formats for a locale
+   * @param <F> the format type
+   */
+  static <F> void registerBundles(final @NotNull List<Bundle<F>> bundles, final @NotNull BiConsumer<Locale, Map<String, F>> registrar) {
+    for (final Bundle<F> bundle : bundles) {
+      try {
+        registrar.accept(bundle.locale, bundle.formats);
+      } catch (final IllegalArgumentException e) {
+        bundle.errors.add(e);
+      }
+    }
+    throwErrors(bundles);
+  }
+
+  private static void throwErrors(final @NotNull List<? extends Bundle<?>> bundles) {
+    IllegalArgumentException firstError = null;
+    int errorCount = 0;
+    for (final Bundle<?> bundle : bundles) {
+      for (final IllegalArgumentException error : bundle.errors) {
+        if (firstError == null) {
+          firstError = error;
+        }
+        errorCount++;
+      }
+    }
+    if (firstError != null) {
+      if (errorCount == 1) {
+        throw firstError;
+      } else {
+        throw new IllegalArgumentException(String.format("Invalid key (and %d more)", errorCount - 1), firstError);
+      }
+    }
   }
 
   @Override
   public void unregister(final @NotNull String key) {
-    this.translations.remove(key);
+    if (this.translations.remove(key) != null) {
+      GlobalTranslatorImpl.INSTANCE.invalidate(this);
+    }
   }
 
   @Override
@@ -69,14 +199,56 @@ final class TranslationRegistryImpl implements Examinable, TranslationRegistry {
 
   @Override
   public @Nullable MessageFormat translate(final @NotNull String key, final @NotNull Locale locale) {
+    final CompiledFormat compiled = this.compiled(key, locale);
+    return compiled == null ? null : compiled.format;
+  }
+
+  @Override
+  public @Nullable MessageFormatTemplate translateTemplate(final @NotNull String key, final @NotNull Locale locale) {
+    final CompiledFormat compiled = this.compiled(key, locale);
+    return compiled == null ? null : compiled.template;
+  }
+
+  @Nullable CompiledFormat compiled(final @NotNull String key, final @NotNull Locale locale) {
     final Translation translation = this.translations.get(key);
     if (translation == null) return null;
-    return translation.translate(locale);
+    return translation.translate(this.fallbacks(requireNonNull(locale, "locale")));
+  }
+
+  /**
+   * Gets the locales to try, in order, when looking up a translation for {@code locale}.
+   *
+   * <p>This is the locale itself, the locale without a country, and then the default locale of this registry.
+   * The global default locale is not included, as it may change.</p>
+   *
+   * @param locale the locale
+   * @return the locales to try
+   */
+  private Locale @NotNull [] fallbacks(final @NotNull Locale locale) {
+    final Map<Locale, Locale[]> fallbacks = this.fallbacks;
+    Locale[] chain = fallbacks.get(locale);
+    if (chain == null) {
+      final Set<Locale> locales = new LinkedHashSet<>(3);
+      locales.add(locale);
+      locales.add(new Locale(locale.getLanguage())); // try without country
+      locales.add(this.defaultLocale); // try local default locale
+      chain = locales.toArray(new Locale[0]);
+      if (fallbacks.size() >= MAXIMUM_CACHED_FALLBACKS) {
+        final Map<Locale, Locale[]> replacement = new ConcurrentHashMap<>();
+        replacement.put(locale, chain);
+        this.fallbacks = replacement;
+      } else {
+        fallbacks.putIfAbsent(locale, chain);
+      }
+    }
+    return chain;
   }
 
   @Override
   public void defaultLocale(final @NotNull Locale defaultLocale) {
     this.defaultLocale = requireNonNull(defaultLocale, "defaultLocale");
+    this.fallbacks = new ConcurrentHashMap<>();
+    GlobalTranslatorImpl.INSTANCE.invalidate(this);
   }
 
   @Override
@@ -106,33 +278,141 @@ final class TranslationRegistryImpl implements Examinable, TranslationRegistry {
     return Internals.toString(this);
   }
 
+  static final class Bundle<F> {
+    final Locale locale;
+    final Map<String, F> formats = new HashMap<>();
+    final List<IllegalArgumentException> errors = new ArrayList<>();
+
+    Bundle(final @NotNull Locale locale) {
+      this.locale = locale;
+    }
+  }
+
+  /**
+   * A message format which has not been created yet.
+   *
+   * <p>Only patterns that are known to be valid are deferred, so that creating the format later cannot fail.</p>
+   */
+  static final class LazyFormat {
+    private final String pattern;
+    private final Locale locale;
+
+    private LazyFormat(final @NotNull String pattern, final @NotNull Locale locale) {
+      this.pattern = pattern;
+      this.locale = locale;
+    }
+
+    /**
+     * Defers creating a format when the pattern is certainly valid, and otherwise creates it now so that errors are reported.
+     *
+     * @param pattern the pattern
+     * @param locale the locale
+     * @return a {@link LazyFormat} or a {@link CompiledFormat}
+     * @throws IllegalArgumentException if the pattern is invalid
+     */
+    static @NotNull Object lazyIfValid(final @NotNull String pattern, final @NotNull Locale locale) {
+      return isPlainPattern(pattern) ? new LazyFormat(pattern, locale) : CompiledFormat.create(pattern, locale);
+    }
+
+    // whether every argument in the pattern is a bare argument index, such as {0}, which MessageFormat always accepts
+    private static boolean isPlainPattern(final @NotNull String pattern) {
+      boolean quoted = false;
+      for (int i = 0, length = pattern.length(); i < length; i++) {
+        final char c = pattern.charAt(i);
+        if (c == '\'') {
+          if (i + 1 < length && pattern.charAt(i + 1) == '\'') {
+            i++; // an escaped quote
+          } else {
+            quoted = !quoted;
+          }
+        } else if (c == '{' && !quoted) {
+          final int start = i + 1;
+          int end = start;
+          while (end < length && end - start < 9 && pattern.charAt(end) >= '0' && pattern.charAt(end) <= '9') {
+            end++;
+          }
+          if (end == start || end >= length || pattern.charAt(end) != '}') return false;
+          i = end;
+        }
+      }
+      return true;
+    }
+
+    @NotNull CompiledFormat create() {
+      return CompiledFormat.create(this.pattern, this.locale);
+    }
+
+    @Override
+    public String toString() {
+      return this.pattern;
+    }
+  }
+
+  /**
+   * A registered message format, and the template rendered in its place.
+   */
+  static final class CompiledFormat {
+    final MessageFormat format;
+    final MessageFormatTemplate template;
+
+    CompiledFormat(final @NotNull MessageFormat format) {
+      this.format = format;
+      this.template = MessageFormatTemplate.compile(format);
+    }
+
+    static @NotNull CompiledFormat create(final @NotNull String pattern, final @NotNull Locale locale) {
+      return new CompiledFormat(new MessageFormat(pattern, locale));
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+      if (this == other) return true;
+      if (!(other instanceof CompiledFormat)) return false;
+      return this.format.equals(((CompiledFormat) other).format);
+    }
+
+    @Override
+    public int hashCode() {
+      return this.format.hashCode();
+    }
+
+    @Override
+    public String toString() {
+      return this.format.toPattern();
+    }
+  }
+
   final class Translation implements Examinable {
     private final String key;
-    private final Map<Locale, MessageFormat> formats;
+    // values are either a CompiledFormat, or a LazyFormat until first used
+    private final Map<Locale, Object> formats;
 
     Translation(final @NotNull String key) {
       this.key = requireNonNull(key, "translation key");
       this.formats = new ConcurrentHashMap<>();
     }
 
-    void register(final @NotNull Locale locale, final @NotNull MessageFormat format) {
+    void register(final @NotNull Locale locale, final @NotNull Object format) {
       if (this.formats.putIfAbsent(requireNonNull(locale, "locale"), requireNonNull(format, "message format")) != null) {
         throw new IllegalArgumentException(String.format("Translation already exists: %s for %s", this.key, locale));
       }
     }
 
-    @Nullable MessageFormat translate(final @NotNull Locale locale) {
-      MessageFormat format = this.formats.get(requireNonNull(locale, "locale"));
-      if (format == null) {
-        format = this.formats.get(new Locale(locale.getLanguage())); // try without country
-        if (format == null) {
-          format = this.formats.get(TranslationRegistryImpl.this.defaultLocale); // try local default locale
-          if (format == null) {
-            format = this.formats.get(TranslationLocales.global()); // try global default locale
-          }
-        }
+    @Nullable CompiledFormat translate(final Locale @NotNull [] locales) {
+      for (final Locale locale : locales) {
+        final CompiledFormat format = this.format(locale);
+        if (format != null) return format;
+      }
+      return this.format(TranslationLocales.global()); // try global default locale
+    }
+
+    private @Nullable CompiledFormat format(final @NotNull Locale locale) {
+      final Object format = this.formats.get(locale);
+      if (format instanceof LazyFormat) {
+        // created at most once, so every caller sees the same instance
+        return (CompiledFormat) this.formats.computeIfPresent(locale, (l, existing) -> existing instanceof LazyFormat ? ((LazyFormat) existing).create() : existing);
       }
-      return format;
+      return (CompiledFormat) format;
     }
 
     @Override
@@ -42,6 +42,7 @@ import static net.kyori.test.WeirdAssertions.assertAllEqualToEachOther;
 import static net.kyori.test.WeirdAssertions.forEachTransformAndAssertIterable;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
@@ -324,6 +325,17 @@ abstract class AbstractComponentTest<C extends BuildableComponent<C, B> & Scoped
       .testEquals();
   }
 
+  @Test
+  void testEqualsDeepChildren() {
+    final Component shared = Component.text("shared", NamedTextColor.GREEN);
+    final C c0 = this.builder().append(Component.text().append(Component.text("a"), shared)).build();
+    final C c1 = this.builder().append(Component.text().append(Component.text("a"), shared)).build();
+    final C c2 = this.builder().append(Component.text().append(Component.text("b"), shared)).build();
+    assertEquals(c0, c1);
+    assertEquals(c0.hashCode(), c1.hashCode());
+    assertNotEquals(c0, c2);
+  }
+
   // -----------------
   // ---- Builder ----
   // -----------------
@@ -26,12 +26,15 @@ package net.kyori.adventure.text.event;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.testing.EqualsTester;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 import net.kyori.adventure.key.Key;
 import net.kyori.adventure.text.Component;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -44,6 +47,24 @@ class HoverEventTest {
     assertEquals(HoverEvent.showText(Component.text("cats")), event.asHoverEvent(old -> Component.text("cats")));
   }
 
+  @Test
+  void testLazyValue() {
+    final AtomicInteger calls = new AtomicInteger();
+    final Supplier<Component> supplier = () -> {
+      calls.incrementAndGet();
+      return Component.text("kittens");
+    };
+    final HoverEvent<Component> event = HoverEvent.lazyHoverEvent(HoverEvent.Action.SHOW_TEXT, supplier);
+    assertEquals(0, calls.get());
+    assertSame(supplier, event.pendingValue());
+
+    assertEquals(HoverEvent.showText(Component.text("kittens")), event);
+    assertEquals(Component.text("kittens"), event.value());
+    assertEquals(1, calls.get());
+    assertNull(event.pendingValue());
+    assertNull(HoverEvent.showText(Component.text("kittens")).pendingValue());
+  }
+
   @Test
   void testShowItemItem() {
     final HoverEvent.ShowItem si0 = HoverEvent.ShowItem.of(Key.key("stone"), 1);
@@ -36,6 +36,7 @@ import org.junit.jupiter.api.Test;
 import static com.google.common.truth.Truth.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -71,6 +72,38 @@ class GlobalTranslatorTest {
     );
   }
 
+  @Test
+  void testCachingRender() {
+    final TranslationRegistry registry = TranslationRegistry.create(Key.key("adventure", "test_caching"));
+    registry.register("testCaching", Locale.US, new MessageFormat("Hello {0}!"));
+    final Component component = Component.translatable("testCaching", Component.text("kashike"));
+    GlobalTranslator.translator().addSource(registry);
+    try {
+      final Component rendered = GlobalTranslator.cachingRenderer().render(component, Locale.US);
+      assertEquals(GlobalTranslator.render(component, Locale.US), rendered);
+      assertSame(rendered, GlobalTranslator.cachingRenderer().render(Component.translatable("testCaching", Component.text("kashike")), Locale.US));
+      assertEquals(GlobalTranslator.render(component, Locale.GERMANY), GlobalTranslator.cachingRenderer().render(component, Locale.GERMANY));
+    } finally {
+      GlobalTranslator.translator().removeSource(registry);
+    }
+    assertEquals(component, GlobalTranslator.cachingRenderer().render(component, Locale.US));
+  }
+
+  @Test
+  void testCachingRenderSkipsOtherTranslators() {
+    final Component component = Component.translatable("testDummy", Component.text("kashike"));
+    GlobalTranslator.translator().addSource(DummyTranslator.INSTANCE);
+    final Component rendered = GlobalTranslator.cachingRenderer().render(component, Locale.US);
+    assertEquals(GlobalTranslator.render(component, Locale.US), rendered);
+    DummyTranslator.INSTANCE.greeting = "Goodbye {0}!";
+    try {
+      assertEquals(GlobalTranslator.render(component, Locale.US), GlobalTranslator.cachingRenderer().render(component, Locale.US));
+      assertEquals(Component.text().append(Component.text("Goodbye ")).append(Component.text("kashike")).append(Component.text("!")).build(), GlobalTranslator.cachingRenderer().render(component, Locale.US));
+    } finally {
+      DummyTranslator.INSTANCE.greeting = "Hello {0}!";
+    }
+  }
+
   @Test
   void testAddingSelf() {
     assertThrows(IllegalArgumentException.class, () -> GlobalTranslator.translator().addSource(GlobalTranslator.translator()));
@@ -91,8 +124,42 @@ class GlobalTranslatorTest {
     assertEquals(new MessageFormat("Hello {0}!"), GlobalTranslator.translator().translate("testDummy", Locale.US));
   }
 
+  @Test
+  void testTranslateSeesRegistryChanges() {
+    final TranslationRegistry registry = TranslationRegistry.create(Key.key("adventure", "test_global"));
+    assertTrue(GlobalTranslator.translator().addSource(registry));
+    try {
+      assertNull(GlobalTranslator.translator().translate("testGlobal", Locale.US));
+      registry.register("testGlobal", Locale.US, new MessageFormat("Hi"));
+      assertEquals(new MessageFormat("Hi"), GlobalTranslator.translator().translate("testGlobal", Locale.US));
+      registry.unregister("testGlobal");
+      assertNull(GlobalTranslator.translator().translate("testGlobal", Locale.US));
+    } finally {
+      GlobalTranslator.translator().removeSource(registry);
+    }
+  }
+
+  @Test
+  void testUnrelatedRegistryKeepsCache() {
+    final TranslationRegistry source = TranslationRegistry.create(Key.key("adventure", "test_source"));
+    source.register("testSource", Locale.US, new MessageFormat("Hello {0}!"));
+    final Component component = Component.translatable("testSource", Component.text("kashike"));
+    GlobalTranslator.translator().addSource(source);
+    try {
+      final Component rendered = GlobalTranslator.cachingRenderer().render(component, Locale.US);
+      final TranslationRegistry registry = TranslationRegistry.create(Key.key("adventure", "test_unrelated"));
+      registry.register("testUnrelated", Locale.US, new MessageFormat("Hi"));
+      registry.defaultLocale(Locale.GERMANY);
+      registry.unregister("testUnrelated");
+      assertSame(rendered, GlobalTranslator.cachingRenderer().render(component, Locale.US));
+    } finally {
+      GlobalTranslator.translator().removeSource(source);
+    }
+  }
+
   static class DummyTranslator implements Translator {
     static final DummyTranslator INSTANCE = new DummyTranslator();
+    volatile String greeting = "Hello {0}!";
 
     @Override
     public @NotNull Key name() {
@@ -102,7 +169,7 @@ class GlobalTranslatorTest {
     @Override
     public @Nullable MessageFormat translate(final @NotNull String key, final @NotNull Locale locale) {
       return (key.equals("testDummy") && locale.equals(Locale.US))
-        ? new MessageFormat("Hello {0}!")
+        ? new MessageFormat(this.greeting)
         : null;
     }
   }
@@ -25,6 +25,10 @@ package net.kyori.adventure.translation;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.testing.EqualsTester;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.text.MessageFormat;
 import java.util.Locale;
 import java.util.ResourceBundle;
@@ -34,6 +38,8 @@ import net.kyori.adventure.text.event.HoverEvent;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.text.renderer.TranslatableComponentRenderer;
 import net.kyori.adventure.util.UTF8ResourceBundleControl;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -123,6 +129,17 @@ class TranslationRegistryTest {
     );
   }
 
+  @Test
+  void testRender_missingArguments() {
+    assertEquals(
+      Component.text().content("")
+        .append(Component.text("kashike"))
+        .append(Component.text(" and '{1}' are cats."))
+        .build(),
+      RENDERER.render(Component.translatable("cats", Component.text("kashike")), Locale.US)
+    );
+  }
+
   @Test
   void testRender_veryComplex() {
     assertEquals(
@@ -169,6 +186,33 @@ class TranslationRegistryTest {
     );
   }
 
+  @Test
+  void testRender_templateMatchesFormat() {
+    // a translator that does not keep templates, so its formats are rendered directly
+    final Translator formatsOnly = new Translator() {
+      @Override
+      public @NotNull Key name() {
+        return REGISTRY.name();
+      }
+
+      @Override
+      public @Nullable MessageFormat translate(final @NotNull String key, final @NotNull Locale locale) {
+        return REGISTRY.translate(key, locale);
+      }
+    };
+    final TranslatableComponentRenderer<Locale> formatRenderer = TranslatableComponentRenderer.usingTranslationSource(formatsOnly);
+    for (final Component component : ImmutableList.of(
+      Component.translatable("test"),
+      Component.translatable("cats", Component.text("kashike"), Component.text("lucko")),
+      Component.translatable("cats", Component.text("kashike")),
+      Component.translatable("cats", Component.text("kashike"), Component.text("lucko"), Component.text("extra")),
+      Component.translatable("what")
+    )) {
+      assertEquals(formatRenderer.render(component, Locale.US), RENDERER.render(component, Locale.US));
+      assertEquals(formatRenderer.render(component, Locale.CANADA), RENDERER.render(component, Locale.CANADA));
+    }
+  }
+
   @Test
   void testUnknownTranslatableWithKnownArgsAndChildren() {
     assertEquals(
@@ -198,6 +242,41 @@ class TranslationRegistryTest {
     );
   }
 
+  @Test
+  void testRegisterDirectory() throws IOException {
+    final Path directory = Files.createTempDirectory("adventure-translations");
+    Files.write(directory.resolve("messages_en_US.properties"), ImmutableList.of("greeting = Hello {0}!", "cats = {0} and '{1}' are cats."), StandardCharsets.UTF_8);
+    Files.write(directory.resolve("messages_de_DE.properties"), ImmutableList.of("greeting = Hallo {0}!"), StandardCharsets.UTF_8);
+    Files.write(directory.resolve("other_fr_FR.properties"), ImmutableList.of("greeting = Bonjour {0} !"), StandardCharsets.UTF_8);
+
+    for (final boolean lazy : new boolean[] {false, true}) {
+      final TranslationRegistry registry = TranslationRegistry.create(Key.key("adventure", "test_directory"));
+      registry.registerAll(directory, "messages", true, lazy);
+      assertEquals(new MessageFormat("Hello {0}!", Locale.US), registry.translate("greeting", Locale.US));
+      assertEquals(new MessageFormat("{0} and ''{1}'' are cats.", Locale.US), registry.translate("cats", Locale.US));
+      assertEquals(new MessageFormat("Hallo {0}!", Locale.GERMANY), registry.translate("greeting", Locale.GERMANY));
+      assertEquals(new MessageFormat("Hello {0}!", Locale.US), registry.translate("greeting", Locale.FRANCE));
+      assertThrows(IllegalArgumentException.class, () -> registry.registerAll(directory, "messages", true, lazy));
+    }
+  }
+
+  @Test
+  void testRegisterDirectoryReportsErrors() throws IOException {
+    final Path directory = Files.createTempDirectory("adventure-translations");
+    Files.write(directory.resolve("messages_en_US.properties"), ImmutableList.of("greeting = Hello {0}!", "count = {0,number,integer} cats", "broken = Hello {0!"), StandardCharsets.UTF_8);
+    // a directory where a file is expected cannot be read
+    Files.createDirectory(directory.resolve("messages_de_DE.properties"));
+
+    for (final boolean lazy : new boolean[] {false, true}) {
+      final TranslationRegistry registry = TranslationRegistry.create(Key.key("adventure", "test_directory_errors"));
+      final IllegalArgumentException error = assertThrows(IllegalArgumentException.class, () -> registry.registerAll(directory, "messages", false, lazy));
+      assertEquals(IllegalArgumentException.class, error.getCause().getClass()); // two errors, the first as the cause
+      assertEquals(new MessageFormat("Hello {0}!", Locale.US), registry.translate("greeting", Locale.US));
+      assertEquals(new MessageFormat("{0,number,integer} cats", Locale.US), registry.translate("count", Locale.US));
+      assertNull(registry.translate("broken", Locale.US));
+    }
+  }
+
   @Test
   void testEquality() {
     new EqualsTester()
@@ -0,0 +1,125 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2022 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text;
+
+import java.util.UUID;
+import net.kyori.adventure.key.Key;
+import net.kyori.adventure.text.event.ClickEvent;
+import net.kyori.adventure.text.event.HoverEvent;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.Style;
+import net.kyori.adventure.text.format.TextColor;
+import net.kyori.adventure.text.format.TextDecoration;
+
+import static net.kyori.adventure.text.Component.text;
+import static net.kyori.adventure.text.Component.translatable;
+
+/**
+ * Components shared by every benchmark suite, so that serializers can be compared on the same inputs.
+ *
+ * <p>Use as an enum {@code @Param} to run a benchmark against each fixture.</p>
+ */
+public enum ComponentFixture {
+  /**
+   * A player chat line, with a styled prefix, an interactive name and a link in the message.
+   */
+  CHAT_LINE {
+    @Override
+    Component create() {
+      final Component name = text("Steve", Style.style()
+        .color(NamedTextColor.WHITE)
+        .hoverEvent(HoverEvent.showEntity(Key.key("player"), UUID.fromString("069a79f4-44e9-4726-a5be-fca90e38aaf5"), text("Steve")))
+        .clickEvent(ClickEvent.suggestCommand("/msg Steve "))
+        .build());
+      return text()
+        .append(text("[", NamedTextColor.DARK_GRAY))
+        .append(text("VIP", NamedTextColor.GOLD, TextDecoration.BOLD))
+        .append(text("] ", NamedTextColor.DARK_GRAY))
+        .append(name)
+        .append(text(": ", NamedTextColor.DARK_GRAY))
+        .append(text("has anyone seen the changelog at https://kyori.net/ yet? the new colors look great", NamedTextColor.GRAY))
+        .build();
+    }
+  },
+  /**
+   * A bold gradient, one component with its own hex color per character.
+   */
+  GRADIENT {
+    @Override
+    Component create() {
+      final String content = "Welcome to the server, enjoy your stay!";
+      final TextComponent.Builder builder = text().decorate(TextDecoration.BOLD);
+      final int length = content.length();
+      for (int i = 0; i < length; i++) {
+        final TextColor color = TextColor.lerp((float) i / (length - 1), TextColor.color(0xff5555), TextColor.color(0x5555ff));
+        builder.append(text(content.charAt(i), color));
+      }
+      return builder.build();
+    }
+  },
+  /**
+   * A death message, with translatable arguments nested a few levels deep.
+   */
+  TRANSLATABLE_TREE {
+    @Override
+    Component create() {
+      final Component weapon = translatable("item.minecraft.diamond_sword", Style.style()
+        .color(NamedTextColor.AQUA)
+        .hoverEvent(HoverEvent.showItem(Key.key("diamond_sword"), 1))
+        .build());
+      final Component killer = translatable("entity.minecraft.zombie", Style.style()
+        .color(NamedTextColor.RED)
+        .hoverEvent(HoverEvent.showEntity(Key.key("zombie"), UUID.fromString("7b4c2f31-46c7-4a45-9a2e-bd2c3b1df1c9")))
+        .build());
+      final Component victim = text("Steve", Style.style()
+        .hoverEvent(HoverEvent.showText(text("Click to message", NamedTextColor.GRAY)))
+        .clickEvent(ClickEvent.suggestCommand("/msg Steve "))
+        .build());
+      return translatable()
+        .key("chat.type.announcement")
+        .color(NamedTextColor.YELLOW)
+        .args(
+          text("Server", NamedTextColor.LIGHT_PURPLE),
+          translatable("death.attack.player.item", victim, killer, weapon)
+        )
+        .append(text(" (", NamedTextColor.DARK_GRAY))
+        .append(translatable("deathScreen.score", NamedTextColor.GRAY).append(text(": 42", NamedTextColor.WHITE)))
+        .append(text(")", NamedTextColor.DARK_GRAY))
+        .build();
+    }
+  };
+
+  private final Component component = this.create();
+
+  abstract Component create();
+
+  /**
+   * Gets the component of this fixture.
+   *
+   * @return the component
+   */
+  public Component component() {
+    return this.component;
+  }
+}
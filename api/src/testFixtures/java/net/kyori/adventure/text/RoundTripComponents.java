@@ -0,0 +1,81 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2022 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import net.kyori.adventure.key.Key;
+import net.kyori.adventure.nbt.api.BinaryTagHolder;
+import net.kyori.adventure.text.event.ClickEvent;
+import net.kyori.adventure.text.event.HoverEvent;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.Style;
+import net.kyori.adventure.text.format.TextColor;
+import net.kyori.adventure.text.format.TextDecoration;
+
+/**
+ * Components covering every component type and style property, for serializer round-trip tests.
+ */
+public final class RoundTripComponents {
+  @SuppressWarnings("deprecation") // score values are still serialized
+  private static final List<Component> COMPONENTS = Collections.unmodifiableList(Arrays.<Component>asList(
+    Component.text("hello"),
+    Component.text("caf\u00e9 \u2603 \ud83d\ude00"),
+    Component.text("hello", NamedTextColor.RED, TextDecoration.BOLD),
+    Component.text("plain red", TextColor.color(NamedTextColor.RED.value())),
+    Component.text("hi").append(Component.text("there", Style.style(TextDecoration.ITALIC.withState(false)))).append(Component.text("!", TextColor.color(0xabcdef))),
+    Component.text().content("styled")
+      .font(Key.key("uniform"))
+      .decoration(TextDecoration.OBFUSCATED, true)
+      .insertion("insert")
+      .clickEvent(ClickEvent.runCommand("/say hi"))
+      .hoverEvent(HoverEvent.showText(Component.text("tooltip", NamedTextColor.GOLD)))
+      .build(),
+    Component.text("copy").clickEvent(ClickEvent.copyToClipboard("copied")),
+    Component.text("item").hoverEvent(HoverEvent.showItem(Key.key("diamond_sword"), 3, BinaryTagHolder.binaryTagHolder("{Damage:5}"))),
+    Component.text("entity").hoverEvent(HoverEvent.showEntity(Key.key("zombie"), UUID.fromString("eb121687-8b1a-4944-bd4d-e0a818d9dfe2"), Component.text("Bob"))),
+    Component.translatable("chat.type.text", Component.text("kashike"), Component.text("hi", NamedTextColor.GREEN)),
+    Component.score("abc", "def"),
+    Component.score("abc", "def", "ghi"),
+    Component.selector("@p", Component.text(", ")),
+    Component.keybind("key.jump"),
+    Component.blockNBT("abc", BlockNBTComponent.Pos.fromString("^1 ^2 ^3")),
+    Component.entityNBT().nbtPath("Health").selector("@e").interpret(true).separator(Component.text(" | ")).build(),
+    Component.storageNBT("def", Key.key("adventure", "storage"))
+  ));
+
+  private RoundTripComponents() {
+  }
+
+  /**
+   * Gets the components to round-trip.
+   *
+   * @return the components
+   */
+  public static List<Component> components() {
+    return COMPONENTS;
+  }
+}
@@ -1,11 +1,13 @@
 plugins {
   id("adventure.common-conventions")
+  alias(libs.plugins.jmh)
 }
 
 dependencies {
   api(projects.adventureApi)
   api(libs.configurate.v4)
   testImplementation(projects.adventureTextSerializerGson)
+  jmhImplementation(testFixtures(projects.adventureApi))
 }
 
 applyJarMetadata("net.kyori.adventure.serializer.configurate4")
@@ -41,9 +41,11 @@ sequenceOf(
   "serializer-configurate4",
   "text-logger-slf4j",
   "text-minimessage",
+  "text-serializer-binary",
   "text-serializer-gson",
   "text-serializer-gson-legacy-impl",
   "text-serializer-legacy",
+  "text-serializer-nbt",
   "text-serializer-plain"
 ).forEach {
   include("adventure-$it")
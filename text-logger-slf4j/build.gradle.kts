@@ -1,5 +1,6 @@
 plugins {
   id("adventure.common-conventions")
+  alias(libs.plugins.jmh)
 }
 
 val exposedVersion by configurations.creating {
@@ -23,6 +24,8 @@ dependencies {
   exposedVersion(libs.slf4jRuntime)
   testImplementation(libs.slf4jtest)
   testImplementation(libs.slf4j)
+  jmhImplementation(libs.slf4j)
+  jmhImplementation(testFixtures(projects.adventureApi))
 }
 
 sourceSets.main {
@@ -0,0 +1,82 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2022 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text.minimessage.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.minimessage.CompiledTemplate;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.kyori.adventure.text.minimessage.tag.resolver.Placeholder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * The inputs of {@link MiniMessageBenchmark}, rendered from templates compiled ahead of time.
+ */
+@Fork(value = 1, warmups = 1)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class CompiledTemplateBenchmark {
+  private final CompiledTemplate niceMix = MiniMessage.miniMessage().compile("<yellow><test> random <gradient:red:blue:green><bold>stranger</gradient></bold><click:run_command:test command><underlined><red>click here</click><blue> to <rainbow><b>FEEL</rainbow></underlined> it");
+  private final CompiledTemplate simple = MiniMessage.miniMessage().compile("<yellow><test><bold>stranger");
+  private final CompiledTemplate gradient = MiniMessage.miniMessage().compile("<gradient:red:blue:green>COLORS ARE COOL");
+  private final CompiledTemplate rainbow = MiniMessage.miniMessage().compile("<rainbow>COLORS ARE COOL");
+  private final CompiledTemplate gradientPlaceholder = MiniMessage.miniMessage().compile("<gray>Welcome, <gradient:red:blue><name></gradient>!");
+
+  @Benchmark
+  public Component testNiceMix() {
+    return this.niceMix.render();
+  }
+
+  @Benchmark
+  public Component testSimple() {
+    return this.simple.render(Placeholder.component("test", Component.text("test2")));
+  }
+
+  @Benchmark
+  public Component testGradient() {
+    return this.gradient.render();
+  }
+
+  @Benchmark
+  public Component testRainbow() {
+    return this.rainbow.render();
+  }
+
+  @Benchmark
+  public Component testGradientPlaceholder() {
+    return this.gradientPlaceholder.render(Placeholder.unparsed("name", "stranger"));
+  }
+
+  @Benchmark
+  public Component testGradientPlaceholderDeserialize() {
+    return MiniMessage.miniMessage().deserialize("<gray>Welcome, <gradient:red:blue><name></gradient>!", Placeholder.unparsed("name", "stranger"));
+  }
+}
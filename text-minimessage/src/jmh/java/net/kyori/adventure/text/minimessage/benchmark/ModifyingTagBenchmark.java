@@ -0,0 +1,93 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2022 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text.minimessage.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Long gradient and rainbow inputs, both as one plain run of text and as many sibling children.
+ */
+@Fork(value = 1, warmups = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ModifyingTagBenchmark {
+  @Param({"100", "1000", "5000"})
+  private int length;
+
+  private String plainGradient;
+  private String plainRainbow;
+  private String wideGradient;
+  private String wideRainbow;
+
+  @Setup
+  public void setup() {
+    final StringBuilder plain = new StringBuilder(this.length);
+    final StringBuilder wide = new StringBuilder(this.length * 8);
+    for (int i = 0; i < this.length; i++) {
+      final char c = (char) ('a' + i % 26);
+      plain.append(c);
+      if (i % 2 == 0) {
+        wide.append("<b>").append(c).append("</b>");
+      } else {
+        wide.append(c);
+      }
+    }
+    this.plainGradient = "<gradient:red:blue:green>" + plain + "</gradient>";
+    this.plainRainbow = "<rainbow>" + plain + "</rainbow>";
+    this.wideGradient = "<gradient:red:blue:green>" + wide + "</gradient>";
+    this.wideRainbow = "<rainbow>" + wide + "</rainbow>";
+  }
+
+  @Benchmark
+  public Component testPlainGradient() {
+    return MiniMessage.miniMessage().deserialize(this.plainGradient);
+  }
+
+  @Benchmark
+  public Component testPlainRainbow() {
+    return MiniMessage.miniMessage().deserialize(this.plainRainbow);
+  }
+
+  @Benchmark
+  public Component testWideGradient() {
+    return MiniMessage.miniMessage().deserialize(this.wideGradient);
+  }
+
+  @Benchmark
+  public Component testWideRainbow() {
+    return MiniMessage.miniMessage().deserialize(this.wideRainbow);
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2022 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text.minimessage;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A MiniMessage string that has been parsed ahead of time, ready to be rendered many times.
+ *
+ * <p>Tokenization, pre-process tags provided by the {@link MiniMessage} instance, and the instance's own tags
+ * are handled once when the template is compiled. Rendering only resolves tags provided at render time,
+ * such as placeholders, and tags whose output depends on their content, such as gradients.</p>
+ *
+ * <p>Rendering is equivalent to calling {@link MiniMessage#deserialize(String, TagResolver)} with the same input.
+ * Render-time resolvers which provide {@link net.kyori.adventure.text.minimessage.tag.PreProcess pre-process} tags
+ * change the structure of the message, and fall back to a full parse.</p>
+ *
+ * @since 4.13.0
+ */
+@ApiStatus.NonExtendable
+public interface CompiledTemplate {
+  /**
+   * Gets the input string this template was compiled from.
+   *
+   * @return the input string
+   * @since 4.13.0
+   */
+  @NotNull String input();
+
+  /**
+   * Renders this template into a component.
+   *
+   * @return the output component
+   * @since 4.13.0
+   */
+  @NotNull Component render();
+
+  /**
+   * Renders this template into a component, with a tag resolver to parse tags of the form {@code <key>}.
+   *
+   * <p>Tags will be resolved from the resolver parameter before the resolver provided in the builder is used.</p>
+   *
+   * @param tagResolver the tag resolver for any additional tags to handle
+   * @return the output component
+   * @since 4.13.0
+   */
+  @NotNull Component render(final @NotNull TagResolver tagResolver);
+
+  /**
+   * Renders this template into a component, with a tag resolver to parse tags of the form {@code <key>}.
+   *
+   * <p>Tags will be resolved from the resolver parameters before the resolver provided in the builder is used.</p>
+   *
+   * @param tagResolvers a series of tag resolvers to apply extra tags from, last specified taking priority
+   * @return the output component
+   * @since 4.13.0
+   */
+  default @NotNull Component render(final @NotNull TagResolver... tagResolvers) {
+    return this.render(TagResolver.resolver(tagResolvers));
+  }
+}
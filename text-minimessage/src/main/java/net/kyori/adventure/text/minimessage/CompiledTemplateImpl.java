@@ -0,0 +1,237 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2022 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text.minimessage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.minimessage.internal.TagInternals;
+import net.kyori.adventure.text.minimessage.internal.parser.Token;
+import net.kyori.adventure.text.minimessage.internal.parser.TokenParser;
+import net.kyori.adventure.text.minimessage.internal.parser.TokenType;
+import net.kyori.adventure.text.minimessage.internal.parser.node.RootNode;
+import net.kyori.adventure.text.minimessage.internal.parser.node.TagPart;
+import net.kyori.adventure.text.minimessage.tag.Modifying;
+import net.kyori.adventure.text.minimessage.tag.PreProcess;
+import net.kyori.adventure.text.minimessage.tag.Tag;
+import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A template that keeps the tokens of its pre-processed input, and the tags of its {@link MiniMessage} instance.
+ *
+ * @since 4.13.0
+ */
+final class CompiledTemplateImpl implements CompiledTemplate {
+  private final MiniMessageImpl miniMessage;
+  private final String input;
+  private final String processedInput;
+  private final String message;
+  private final List<Token> tokens;
+  // tags that could be resolved without knowing the render-time resolvers, keyed by the token they were resolved for
+  private final Map<Token, Tag> staticTags;
+  // names of the pre-process tags that were already substituted into the message
+  private final Set<String> preProcessedNames;
+
+  CompiledTemplateImpl(final @NotNull MiniMessageImpl miniMessage, final @NotNull String input) {
+    this.miniMessage = miniMessage;
+    this.input = requireNonNull(input, "input");
+
+    final ContextImpl context = miniMessage.newContext(input, null);
+    final TagResolver resolver = miniMessage.parser.tagResolver;
+    final Set<String> preProcessedNames = new HashSet<>();
+    final TokenParser.TagProvider provider = (name, args, token) -> {
+      final @Nullable Tag tag = resolve(resolver, name, args, context);
+      if (tag instanceof PreProcess) {
+        preProcessedNames.add(name);
+      }
+      return tag;
+    };
+
+    this.processedInput = context.preProcessor().apply(input);
+    final List<Token> tokens = new ArrayList<>();
+    this.message = TokenParser.resolvePreProcessTags(this.processedInput, provider, tokens);
+    context.message(this.message);
+    this.tokens = Collections.unmodifiableList(tokens);
+    this.preProcessedNames = preProcessedNames;
+
+    final Map<Token, Tag> staticTags = new IdentityHashMap<>();
+    for (final Token token : this.tokens) {
+      if (token.type() != TokenType.OPEN_TAG && token.type() != TokenType.OPEN_CLOSE_TAG) continue;
+
+      final List<Token> childTokens = token.childTokens();
+      final String name = childTokens.get(0).get(this.message).toString();
+      if (!TagInternals.sanitizeAndCheckValidTagName(name)) continue;
+      final String sanitized = TokenParser.TagProvider.sanitizePlaceholderName(name);
+      if (!resolver.has(sanitized)) continue;
+
+      final @Nullable List<TagPart> args = this.staticArguments(childTokens, provider);
+      if (args == null) continue;
+
+      final @Nullable Tag tag = resolve(resolver, sanitized, args, context);
+      // modifying tags carry state between visits, so each render needs its own instance
+      if (tag != null && !(tag instanceof Modifying) && !(tag instanceof PreProcess)) {
+        staticTags.put(token, tag);
+      }
+    }
+    this.staticTags = staticTags;
+  }
+
+  // arguments that contain markup may refer to render-time tags, so those tags are never resolved ahead of time
+  private @Nullable List<TagPart> staticArguments(final List<Token> childTokens, final TokenParser.TagProvider provider) {
+    final List<TagPart> args = new ArrayList<>(childTokens.size() - 1);
+    for (int i = 1; i < childTokens.size(); i++) {
+      final Token child = childTokens.get(i);
+      if (this.message.lastIndexOf(TokenParser.TAG_START, child.endIndex() - 1) >= child.startIndex()) {
+        return null;
+      }
+      args.add(new TagPart(this.message, child, provider));
+    }
+    return args;
+  }
+
+  private static @Nullable Tag resolve(final TagResolver resolver, final String name, final List<? extends Tag.Argument> args, final ContextImpl context) {
+    try {
+      return resolver.resolve(name, new ArgumentQueueImpl<>(context, args), context);
+    } catch (final ParsingException ignored) {
+      return null;
+    }
+  }
+
+  @Override
+  public @NotNull String input() {
+    return this.input;
+  }
+
+  @Override
+  public @NotNull Component render() {
+    return this.render(TagResolver.empty());
+  }
+
+  @Override
+  public @NotNull Component render(final @NotNull TagResolver tagResolver) {
+    requireNonNull(tagResolver, "tagResolver");
+    final ContextImpl context = this.miniMessage.newContext(this.message, tagResolver);
+    if (context.debugOutput() != null || this.overridesPreProcessed(tagResolver)) {
+      return this.miniMessage.deserialize(this.input, tagResolver);
+    }
+
+    final TagResolver combinedResolver = TagResolver.resolver(this.miniMessage.parser.tagResolver, tagResolver);
+    final TokenParser.TagProvider provider = (name, args, token) -> {
+      final boolean dynamic = tagResolver.has(name);
+      if (!dynamic && token != null) {
+        final @Nullable Tag tag = this.staticTags.get(token);
+        if (tag != null) return tag;
+      }
+
+      final @Nullable Tag tag = resolve(combinedResolver, name, args, context);
+      if (dynamic && tag instanceof PreProcess) {
+        throw Reparse.INSTANCE;
+      }
+      return tag;
+    };
+
+    final RootNode root;
+    try {
+      root = TokenParser.parse(
+        provider,
+        name -> combinedResolver.has(TokenParser.TagProvider.sanitizePlaceholderName(name)),
+        this.tokens,
+        this.message,
+        this.processedInput,
+        context.strict()
+      );
+    } catch (final Reparse ignored) {
+      // a render-time pre-process tag changes the message itself, so the tokens we hold no longer apply
+      return this.miniMessage.deserialize(this.input, tagResolver);
+    }
+
+    return Objects.requireNonNull(context.postProcessor().apply(this.miniMessage.parser.treeToComponent(root, context)), "Post-processor must not return null");
+  }
+
+  private boolean overridesPreProcessed(final TagResolver tagResolver) {
+    for (final String name : this.preProcessedNames) {
+      if (tagResolver.has(name)) return true;
+    }
+    return false;
+  }
+
+  @Override
+  public String toString() {
+    return "CompiledTemplate{input=" + this.input + "}";
+  }
+
+  private static final class Reparse extends RuntimeException {
+    private static final long serialVersionUID = -5372860414209839113L;
+    static final Reparse INSTANCE = new Reparse();
+
+    private Reparse() {
+      super(null, null, false, false);
+    }
+  }
+
+  /**
+   * A template for {@link MiniMessage} implementations that cannot compile input ahead of time.
+   *
+   * @since 4.13.0
+   */
+  static final class Deserializing implements CompiledTemplate {
+    private final MiniMessage miniMessage;
+    private final String input;
+
+    Deserializing(final @NotNull MiniMessage miniMessage, final @NotNull String input) {
+      this.miniMessage = miniMessage;
+      this.input = requireNonNull(input, "input");
+    }
+
+    @Override
+    public @NotNull String input() {
+      return this.input;
+    }
+
+    @Override
+    public @NotNull Component render() {
+      return this.miniMessage.deserialize(this.input);
+    }
+
+    @Override
+    public @NotNull Component render(final @NotNull TagResolver tagResolver) {
+      return this.miniMessage.deserialize(this.input, requireNonNull(tagResolver, "tagResolver"));
+    }
+
+    @Override
+    public String toString() {
+      return "CompiledTemplate{input=" + this.input + "}";
+    }
+  }
+}
@@ -54,6 +54,7 @@ class ContextImpl implements Context {
   private final TagResolver tagResolver;
   private final UnaryOperator<String> preProcessor;
   private final UnaryOperator<Component> postProcessor;
+  private boolean cacheable = true;
 
   ContextImpl(
     final boolean strict,
@@ -105,6 +106,14 @@ class ContextImpl implements Context {
     return this.tagResolver;
   }
 
+  boolean cacheable() {
+    return this.cacheable;
+  }
+
+  void uncacheable() {
+    this.cacheable = false;
+  }
+
   public UnaryOperator<Component> postProcessor() {
     return this.postProcessor;
   }
@@ -23,6 +23,7 @@
  */
 package net.kyori.adventure.text.minimessage;
 
+import java.io.IOException;
 import java.util.function.Consumer;
 import java.util.function.UnaryOperator;
 import net.kyori.adventure.builder.AbstractBuilder;
@@ -93,6 +94,31 @@ public interface MiniMessage extends ComponentSerializer<Component, Component, S
     return this.escapeTags(input, TagResolver.resolver(tagResolvers));
   }
 
+  /**
+   * Serializes a component into a MiniMessage string, appending it to the provided builder.
+   *
+   * <p>Unlike {@link #serialize(Object)}, this does not create an intermediate string.</p>
+   *
+   * @param sb the string builder to append to
+   * @param component the component to serialize
+   * @since 4.13.0
+   */
+  default void serialize(final @NotNull StringBuilder sb, final @NotNull Component component) {
+    sb.append(this.serialize(component));
+  }
+
+  /**
+   * Serializes a component into a MiniMessage string, appending it to the provided output.
+   *
+   * @param output the output to append to
+   * @param component the component to serialize
+   * @throws IOException if the output could not be written to
+   * @since 4.13.0
+   */
+  default void serialize(final @NotNull Appendable output, final @NotNull Component component) throws IOException {
+    output.append(this.serialize(component));
+  }
+
   /**
    * Removes all supported tags in the input message.
    *
@@ -158,6 +184,21 @@ public interface MiniMessage extends ComponentSerializer<Component, Component, S
     return this.deserialize(input, TagResolver.resolver(tagResolvers));
   }
 
+  /**
+   * Compiles a string into a template that can be rendered many times.
+   *
+   * <p>Parsing work that does not depend on the tag resolvers passed at render time is only done once,
+   * making this preferable to {@link #deserialize(String, TagResolver)} for messages that are rendered repeatedly.</p>
+   *
+   * @param input the input string
+   * @return the compiled template
+   * @throws ParsingException if the input is invalid
+   * @since 4.13.0
+   */
+  default @NotNull CompiledTemplate compile(final @NotNull String input) {
+    return new CompiledTemplateImpl.Deserializing(this, input);
+  }
+
   /**
    * Deserializes a string into a tree of parsed elements,
    * This is intended for inspecting the output of the parser for debugging purposes.
@@ -196,6 +237,17 @@ public interface MiniMessage extends ComponentSerializer<Component, Component, S
     return this.deserializeToTree(input, TagResolver.resolver(tagResolvers));
   }
 
+  /**
+   * Get the cache of parse results used by this instance, if it has one.
+   *
+   * @return the parse cache, or {@code null} if parse results are not cached
+   * @see Builder#parseCache(int)
+   * @since 4.13.0
+   */
+  default @Nullable ParseCache parseCache() {
+    return null;
+  }
+
   /**
    * Creates a new {@link MiniMessage.Builder}.
    *
@@ -283,6 +335,44 @@ public interface MiniMessage extends ComponentSerializer<Component, Component, S
      */
     @NotNull Builder preProcessor(final @NotNull UnaryOperator<String> preProcessor);
 
+    /**
+     * Set the quote character preferred when serializing tag arguments that must be quoted (single quotes by default).
+     *
+     * <p>Arguments that contain the preferred quote character will still be quoted with the other character.</p>
+     *
+     * @param quote the preferred quote, either {@code '} or {@code "}
+     * @return this builder
+     * @throws IllegalArgumentException if {@code quote} is not a quote character
+     * @since 4.13.0
+     */
+    @NotNull Builder preferredQuote(final char quote);
+
+    /**
+     * Set whether serialized tags use their abbreviated names where one exists (disabled by default).
+     *
+     * <p>For example, bold text will be serialized as {@code <b>} rather than {@code <bold>}.</p>
+     *
+     * @param abbreviate whether to prefer abbreviated tag names
+     * @return this builder
+     * @since 4.13.0
+     */
+    @NotNull Builder abbreviateTagNames(final boolean abbreviate);
+
+    /**
+     * Cache the components deserialized from up to {@code maximumSize} distinct inputs (disabled by default).
+     *
+     * <p>Only inputs deserialized without any extra tag resolvers are cached, and results that contain
+     * {@link net.kyori.adventure.text.minimessage.tag.Modifying modifying} tags or that are parsed with debug output enabled are never cached.
+     * Cached inputs are not parsed again, so the tags of this instance and its pre- and post-processors must produce the same result for the same input.
+     * When the cache is full, the least recently used inputs are evicted first.</p>
+     *
+     * @param maximumSize the maximum number of inputs to cache, or {@code 0} to disable caching
+     * @return this builder
+     * @throws IllegalArgumentException if {@code maximumSize} is negative
+     * @since 4.13.0
+     */
+    @NotNull Builder parseCache(final int maximumSize);
+
     /**
      * Builds the serializer.
      *
@@ -293,6 +383,57 @@ public interface MiniMessage extends ComponentSerializer<Component, Component, S
     @NotNull MiniMessage build();
   }
 
+  /**
+   * A cache of components deserialized by a {@link MiniMessage} instance.
+   *
+   * @since 4.13.0
+   */
+  @ApiStatus.NonExtendable
+  interface ParseCache {
+    /**
+     * Get the number of deserializations answered from this cache.
+     *
+     * @return the hit count
+     * @since 4.13.0
+     */
+    long hits();
+
+    /**
+     * Get the number of cacheable deserializations that had to parse their input.
+     *
+     * @return the miss count
+     * @since 4.13.0
+     */
+    long misses();
+
+    /**
+     * Get the proportion of cacheable deserializations answered from this cache.
+     *
+     * @return the hit ratio, between {@code 0} and {@code 1}, or {@code 1} if nothing has been deserialized yet
+     * @since 4.13.0
+     */
+    default double hitRatio() {
+      final long hits = this.hits();
+      final long total = hits + this.misses();
+      return total == 0 ? 1 : (double) hits / total;
+    }
+
+    /**
+     * Get the number of inputs currently cached.
+     *
+     * @return the cache size
+     * @since 4.13.0
+     */
+    int size();
+
+    /**
+     * Discard every cached component.
+     *
+     * @since 4.13.0
+     */
+    void invalidateAll();
+  }
+
   /**
    * A {@link MiniMessage} service provider.
    *
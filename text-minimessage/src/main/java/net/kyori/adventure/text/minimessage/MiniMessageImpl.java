@@ -23,6 +23,7 @@
  */
 package net.kyori.adventure.text.minimessage;
 
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Consumer;
@@ -54,36 +55,65 @@ final class MiniMessageImpl implements MiniMessage {
   static final class Instances {
     static final MiniMessage INSTANCE = SERVICE
       .map(Provider::miniMessage)
-      .orElseGet(() -> new MiniMessageImpl(TagResolver.standard(), false, null, DEFAULT_NO_OP, DEFAULT_COMPACTING_METHOD));
+      .orElseGet(() -> new MiniMessageImpl(TagResolver.standard(), false, null, DEFAULT_NO_OP, DEFAULT_COMPACTING_METHOD, DEFAULT_QUOTE, false, 0));
   }
 
   static final UnaryOperator<String> DEFAULT_NO_OP = UnaryOperator.identity();
   static final UnaryOperator<Component> DEFAULT_COMPACTING_METHOD = Component::compact;
+  static final char DEFAULT_QUOTE = '\'';
 
   private final boolean strict;
   private final @Nullable Consumer<String> debugOutput;
   private final UnaryOperator<Component> postProcessor;
   private final UnaryOperator<String> preProcessor;
+  private final char preferredQuote;
+  private final boolean abbreviateTagNames;
+  private final ThreadLocal<MiniMessageSerializer.Collector> collector;
+  private final @Nullable ParseCacheImpl parseCache;
   final MiniMessageParser parser;
 
-  MiniMessageImpl(final @NotNull TagResolver resolver, final boolean strict, final @Nullable Consumer<String> debugOutput, final @NotNull UnaryOperator<String> preProcessor, final @NotNull UnaryOperator<Component> postProcessor) {
+  MiniMessageImpl(final @NotNull TagResolver resolver, final boolean strict, final @Nullable Consumer<String> debugOutput, final @NotNull UnaryOperator<String> preProcessor, final @NotNull UnaryOperator<Component> postProcessor, final char preferredQuote, final boolean abbreviateTagNames, final int parseCacheSize) {
     this.parser = new MiniMessageParser(resolver);
     this.strict = strict;
     this.debugOutput = debugOutput;
     this.preProcessor = preProcessor;
     this.postProcessor = postProcessor;
+    this.preferredQuote = preferredQuote;
+    this.abbreviateTagNames = abbreviateTagNames;
+    this.parseCache = parseCacheSize == 0 ? null : new ParseCacheImpl(parseCacheSize);
+    this.collector = ThreadLocal.withInitial(() -> new MiniMessageSerializer.Collector(this.serialResolver(null), this.strict, this.preferredQuote, this.abbreviateTagNames));
   }
 
   @Override
   public @NotNull Component deserialize(final @NotNull String input) {
+    if (this.parseCache != null && this.debugOutput == null) {
+      return this.deserializeCached(this.parseCache, input);
+    }
     return this.parser.parseFormat(this.newContext(input, null));
   }
 
   @Override
   public @NotNull Component deserialize(final @NotNull String input, final @NotNull TagResolver tagResolver) {
+    if (this.parseCache != null && this.debugOutput == null && requireNonNull(tagResolver, "tagResolver") == TagResolver.empty()) {
+      return this.deserializeCached(this.parseCache, input);
+    }
     return this.parser.parseFormat(this.newContext(input, requireNonNull(tagResolver, "tagResolver")));
   }
 
+  private @NotNull Component deserializeCached(final @NotNull ParseCacheImpl cache, final @NotNull String input) {
+    final @Nullable Component cached = cache.get(requireNonNull(input, "input"));
+    if (cached != null) {
+      return cached;
+    }
+
+    final ContextImpl context = this.newContext(input, null);
+    final Component result = this.parser.parseFormat(context);
+    if (context.cacheable()) {
+      cache.put(input, result);
+    }
+    return result;
+  }
+
   @Override
   public Node.@NotNull Root deserializeToTree(final @NotNull String input) {
     return this.parser.parseToTree(this.newContext(input, null));
@@ -94,9 +124,24 @@ final class MiniMessageImpl implements MiniMessage {
     return this.parser.parseToTree(this.newContext(input, requireNonNull(tagResolver, "tagResolver")));
   }
 
+  @Override
+  public @NotNull CompiledTemplate compile(final @NotNull String input) {
+    return new CompiledTemplateImpl(this, input);
+  }
+
   @Override
   public @NotNull String serialize(final @NotNull Component component) {
-    return MiniMessageSerializer.serialize(component, this.serialResolver(null), this.strict);
+    return MiniMessageSerializer.serialize(requireNonNull(component, "component"), this.collector.get().idle());
+  }
+
+  @Override
+  public void serialize(final @NotNull StringBuilder sb, final @NotNull Component component) {
+    MiniMessageSerializer.serialize(requireNonNull(component, "component"), this.collector.get().idle(), requireNonNull(sb, "sb"));
+  }
+
+  @Override
+  public void serialize(final @NotNull Appendable output, final @NotNull Component component) throws IOException {
+    MiniMessageSerializer.serialize(requireNonNull(component, "component"), this.collector.get().idle(), requireNonNull(output, "output"));
   }
 
   private SerializableResolver serialResolver(final @Nullable TagResolver extraResolver) {
@@ -114,6 +159,11 @@ final class MiniMessageImpl implements MiniMessage {
     return (SerializableResolver) TagResolver.empty();
   }
 
+  @Override
+  public @Nullable ParseCache parseCache() {
+    return this.parseCache;
+  }
+
   @Override
   public @NotNull String escapeTags(final @NotNull String input) {
     return this.parser.escapeTokens(this.newContext(input, null));
@@ -134,7 +184,7 @@ final class MiniMessageImpl implements MiniMessage {
     return this.parser.stripTokens(this.newContext(input, tagResolver));
   }
 
-  private @NotNull ContextImpl newContext(final @NotNull String input, final @Nullable TagResolver resolver) {
+  @NotNull ContextImpl newContext(final @NotNull String input, final @Nullable TagResolver resolver) {
     requireNonNull(input, "input");
     if (resolver == null) {
       return ContextImpl.of(this.strict, this.debugOutput, input, this, TagResolver.empty(), this.preProcessor, this.postProcessor);
@@ -149,6 +199,9 @@ final class MiniMessageImpl implements MiniMessage {
     private Consumer<String> debug = null;
     private UnaryOperator<Component> postProcessor = DEFAULT_COMPACTING_METHOD;
     private UnaryOperator<String> preProcessor = DEFAULT_NO_OP;
+    private char preferredQuote = DEFAULT_QUOTE;
+    private boolean abbreviateTagNames = false;
+    private int parseCacheSize = 0;
 
     BuilderImpl() {
       BUILDER.accept(this);
@@ -161,6 +214,9 @@ final class MiniMessageImpl implements MiniMessage {
       this.debug = serializer.debugOutput;
       this.postProcessor = serializer.postProcessor;
       this.preProcessor = serializer.preProcessor;
+      this.preferredQuote = serializer.preferredQuote;
+      this.abbreviateTagNames = serializer.abbreviateTagNames;
+      this.parseCacheSize = serializer.parseCache == null ? 0 : serializer.parseCache.maximumSize();
     }
 
     @Override
@@ -202,9 +258,33 @@ final class MiniMessageImpl implements MiniMessage {
       return this;
     }
 
+    @Override
+    public @NotNull Builder preferredQuote(final char quote) {
+      if (quote != '\'' && quote != '"') {
+        throw new IllegalArgumentException("Preferred quote must be ' or \", was " + quote);
+      }
+      this.preferredQuote = quote;
+      return this;
+    }
+
+    @Override
+    public @NotNull Builder abbreviateTagNames(final boolean abbreviate) {
+      this.abbreviateTagNames = abbreviate;
+      return this;
+    }
+
+    @Override
+    public @NotNull Builder parseCache(final int maximumSize) {
+      if (maximumSize < 0) {
+        throw new IllegalArgumentException("maximumSize must not be negative, was " + maximumSize);
+      }
+      this.parseCacheSize = maximumSize;
+      return this;
+    }
+
     @Override
     public @NotNull MiniMessage build() {
-      return new MiniMessageImpl(this.tagResolver, this.strict, this.debug, this.preProcessor, this.postProcessor);
+      return new MiniMessageImpl(this.tagResolver, this.strict, this.debug, this.preProcessor, this.postProcessor, this.preferredQuote, this.abbreviateTagNames, this.parseCacheSize);
     }
   }
 }
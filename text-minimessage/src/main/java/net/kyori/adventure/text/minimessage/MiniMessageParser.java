@@ -35,6 +35,7 @@ import net.kyori.adventure.text.minimessage.internal.parser.ParsingExceptionImpl
 import net.kyori.adventure.text.minimessage.internal.parser.Token;
 import net.kyori.adventure.text.minimessage.internal.parser.TokenParser;
 import net.kyori.adventure.text.minimessage.internal.parser.TokenType;
+import net.kyori.adventure.text.minimessage.internal.parser.match.MatchedTokenConsumer;
 import net.kyori.adventure.text.minimessage.internal.parser.node.ElementNode;
 import net.kyori.adventure.text.minimessage.internal.parser.node.RootNode;
 import net.kyori.adventure.text.minimessage.internal.parser.node.TagNode;
@@ -60,17 +61,26 @@ final class MiniMessageParser {
   }
 
   @NotNull String escapeTokens(final @NotNull ContextImpl context) {
-    final StringBuilder sb = new StringBuilder(context.message().length());
-    this.escapeTokens(sb, context);
+    final String message = context.message();
+    // without a tag start there is nothing to escape
+    if (message.indexOf(TokenParser.TAG_START) == -1) {
+      return message;
+    }
+    final StringBuilder sb = new StringBuilder(message.length());
+    this.escapeTokens(sb, message, this.combinedResolver(context));
     return sb.toString();
   }
 
   void escapeTokens(final StringBuilder sb, final @NotNull ContextImpl context) {
-    this.escapeTokens(sb, context.message(), context);
+    this.escapeTokens(sb, context.message(), this.combinedResolver(context));
   }
 
-  private void escapeTokens(final StringBuilder sb, final String richMessage, final ContextImpl context) {
-    this.processTokens(sb, richMessage, context, (token, builder) -> {
+  private void escapeTokens(final StringBuilder sb, final String richMessage, final TagResolver combinedResolver) {
+    if (richMessage.indexOf(TokenParser.TAG_START) == -1) {
+      sb.append(richMessage);
+      return;
+    }
+    this.processTokens(sb, richMessage, combinedResolver, (token, builder) -> {
       builder.append('\\').append(TokenParser.TAG_START);
       if (token.type() == TokenType.CLOSE_TAG) {
         builder.append(TokenParser.CLOSE_TAG);
@@ -80,49 +90,62 @@ final class MiniMessageParser {
         if (i != 0) {
           builder.append(TokenParser.SEPARATOR);
         }
-        this.escapeTokens(builder, childTokens.get(i).get(richMessage).toString(), context); // todo: do we need to unwrap quotes on this?
+        this.escapeTokens(builder, childTokens.get(i).get(richMessage).toString(), combinedResolver); // todo: do we need to unwrap quotes on this?
       }
       builder.append(TokenParser.TAG_END);
     });
   }
 
   @NotNull String stripTokens(final @NotNull ContextImpl context) {
-    final StringBuilder sb = new StringBuilder(context.message().length());
-    this.processTokens(sb, context, (token, builder) -> {});
+    final String message = context.message();
+    // without a tag start there is nothing to strip
+    if (message.indexOf(TokenParser.TAG_START) == -1) {
+      return message;
+    }
+    final StringBuilder sb = new StringBuilder(message.length());
+    this.processTokens(sb, message, this.combinedResolver(context), (token, builder) -> {});
     return sb.toString();
   }
 
-  private void processTokens(final @NotNull StringBuilder sb, final @NotNull ContextImpl context, final BiConsumer<Token, StringBuilder> tagHandler) {
-    this.processTokens(sb, context.message(), context, tagHandler);
+  private TagResolver combinedResolver(final @NotNull ContextImpl context) {
+    final TagResolver extraTags = context.extraTags();
+    return extraTags == TagResolver.empty() ? this.tagResolver : TagResolver.resolver(this.tagResolver, extraTags);
   }
 
-  private void processTokens(final @NotNull StringBuilder sb, final @NotNull String richMessage, final @NotNull ContextImpl context, final BiConsumer<Token, StringBuilder> tagHandler) {
-    final TagResolver combinedResolver = TagResolver.resolver(this.tagResolver, context.extraTags());
-    final List<Token> root = TokenParser.tokenize(richMessage, true);
-    for (final Token token : root) {
-      switch (token.type()) {
-        case TEXT:
-          sb.append(richMessage, token.startIndex(), token.endIndex());
-          break;
-        case OPEN_TAG:
-        case CLOSE_TAG:
-        case OPEN_CLOSE_TAG:
-          // extract tag name
-          if (token.childTokens().isEmpty()) {
-            sb.append(richMessage, token.startIndex(), token.endIndex());
-            continue;
-          }
-          final String sanitized = TokenParser.TagProvider.sanitizePlaceholderName(token.childTokens().get(0).get(richMessage).toString());
-          if (combinedResolver.has(sanitized)) {
-            tagHandler.accept(token, sb);
-          } else {
-            sb.append(richMessage, token.startIndex(), token.endIndex());
-          }
-          break;
-        default:
-          throw new IllegalArgumentException("Unsupported token type " + token.type());
+  private void processTokens(final @NotNull StringBuilder sb, final @NotNull String richMessage, final @NotNull TagResolver combinedResolver, final BiConsumer<Token, StringBuilder> tagHandler) {
+    // tokens are handled as they are matched, rather than collected into a list first
+    TokenParser.parseString(richMessage, true, new MatchedTokenConsumer<Void>(richMessage) {
+      @Override
+      public void accept(final int start, final int end, final @NotNull TokenType tokenType) {
+        super.accept(start, end, tokenType);
+        switch (tokenType) {
+          case TEXT:
+            sb.append(richMessage, start, end);
+            break;
+          case OPEN_TAG:
+          case CLOSE_TAG:
+          case OPEN_CLOSE_TAG:
+            final Token token = new Token(start, end, tokenType);
+            TokenParser.parseTagParts(richMessage, token);
+            // extract tag name
+            final Token namePart = token.childTokens().get(0);
+            final String sanitized = TokenParser.TagProvider.sanitizePlaceholderName(namePart.get(richMessage).toString());
+            if (combinedResolver.has(sanitized)) {
+              tagHandler.accept(token, sb);
+            } else {
+              sb.append(richMessage, start, end);
+            }
+            break;
+          default:
+            throw new IllegalArgumentException("Unsupported token type " + tokenType);
+        }
       }
-    }
+
+      @Override
+      public Void result() {
+        return null;
+      }
+    });
   }
 
   @NotNull RootNode parseToTree(final @NotNull ContextImpl context) {
@@ -192,10 +215,12 @@ final class MiniMessageParser {
       return combinedResolver.has(sanitized);
     };
 
-    final String preProcessed = TokenParser.resolvePreProcessTags(processedMessage, transformationFactory);
+    // The pass that finds no more pre-process tags has already tokenized the final message
+    final List<Token> tokens = new ArrayList<>();
+    final String preProcessed = TokenParser.resolvePreProcessTags(processedMessage, transformationFactory, tokens);
     context.message(preProcessed);
     // Then, once MiniMessage placeholders have been inserted, we can do the real parse
-    final RootNode root = TokenParser.parse(transformationFactory, tagNameChecker, preProcessed, processedMessage, context.strict());
+    final RootNode root = TokenParser.parse(transformationFactory, tagNameChecker, tokens, preProcessed, processedMessage, context.strict());
 
     if (debug != null) {
       debug.accept("Text parsed into element tree:\n");
@@ -223,6 +248,7 @@ final class MiniMessageParser {
       // special case for gradient and stuff
       if (tag instanceof Modifying) {
         final Modifying modTransformation = (Modifying) tag;
+        context.uncacheable();
 
         // first walk the tree
         this.visitModifying(modTransformation, tagNode, 0);
@@ -235,9 +261,11 @@ final class MiniMessageParser {
     }
 
     if (!node.unsafeChildren().isEmpty()) {
-      final List<Component> children = new ArrayList<>(comp.children().size() + node.children().size());
-      children.addAll(comp.children());
-      for (final ElementNode child : node.unsafeChildren()) {
+      final List<Component> existing = comp.children();
+      final List<ElementNode> nodeChildren = node.unsafeChildren();
+      final List<Component> children = new ArrayList<>(existing.size() + nodeChildren.size());
+      children.addAll(existing);
+      for (final ElementNode child : nodeChildren) {
         children.add(this.treeToComponent(child, context));
       }
       comp = comp.children(children);
@@ -268,10 +296,19 @@ final class MiniMessageParser {
   }
 
   private Component handleModifying(final Modifying modTransformation, final Component current, final int depth) {
-    Component newComp = modTransformation.apply(current, depth);
-    for (final Component child : current.children()) {
-      newComp = newComp.append(this.handleModifying(modTransformation, child, depth + 1));
+    final Component newComp = modTransformation.apply(current, depth);
+    final List<Component> oldChildren = current.children();
+    if (oldChildren.isEmpty()) {
+      return newComp;
+    }
+
+    // collect every child first and set them once, appending one at a time copies the list for each child
+    final List<Component> appliedChildren = newComp.children();
+    final List<Component> children = new ArrayList<>(appliedChildren.size() + oldChildren.size());
+    children.addAll(appliedChildren);
+    for (final Component child : oldChildren) {
+      children.add(this.handleModifying(modTransformation, child, depth + 1));
     }
-    return newComp;
+    return newComp.children(children);
   }
 }
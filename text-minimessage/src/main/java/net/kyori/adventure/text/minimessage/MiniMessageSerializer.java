@@ -23,6 +23,7 @@
  */
 package net.kyori.adventure.text.minimessage;
 
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -44,25 +45,45 @@ final class MiniMessageSerializer {
   private MiniMessageSerializer() {
   }
 
-  // TODO: serialization customization:
-  // - preferred quoting style
-  // - abbreviated vs long tag names (tag-specific option)
-  //
-
   static @NotNull String serialize(final @NotNull Component component, final @NotNull SerializableResolver resolver, final boolean strict) {
     final StringBuilder sb = new StringBuilder();
-    final Collector emitter = new Collector(resolver, strict, sb);
+    serialize(component, new Collector(resolver, strict, sb), sb);
+    return sb.toString();
+  }
+
+  static @NotNull String serialize(final @NotNull Component component, final @NotNull Collector emitter) {
+    final StringBuilder sb = emitter.scratch();
+    serialize(component, emitter, sb);
+    final String result = sb.toString();
+    emitter.trimScratch();
+    return result;
+  }
 
-    emitter.mark();
-    visit(component, emitter, resolver, true);
-    if (strict) {
-      // If we are in strict mode, we need to close all tags at the end of our serialization journey
-      emitter.popAll();
+  static void serialize(final @NotNull Component component, final @NotNull Collector emitter, final @NotNull Appendable output) throws IOException {
+    if (output instanceof StringBuilder) {
+      serialize(component, emitter, (StringBuilder) output);
     } else {
-      emitter.completeTag();
+      final StringBuilder sb = emitter.scratch();
+      serialize(component, emitter, sb);
+      output.append(sb);
+      emitter.trimScratch();
     }
+  }
 
-    return sb.toString();
+  static void serialize(final @NotNull Component component, final @NotNull Collector emitter, final @NotNull StringBuilder sb) {
+    emitter.begin(sb);
+    try {
+      emitter.mark();
+      visit(component, emitter, emitter.resolver, true);
+      if (emitter.strict) {
+        // If we are in strict mode, we need to close all tags at the end of our serialization journey
+        emitter.popAll();
+      } else {
+        emitter.completeTag();
+      }
+    } finally {
+      emitter.end();
+    }
   }
 
   private static void visit(final @NotNull Component component, final Collector emitter, final SerializableResolver resolver, final boolean lastChild) {
@@ -103,17 +124,76 @@ final class MiniMessageSerializer {
     private static final char[] SINGLE_QUOTED_ESCAPES = {TokenParser.ESCAPE, '\''};
     private static final char[] DOUBLE_QUOTED_ESCAPES = {TokenParser.ESCAPE, '"'};
 
-    private final SerializableResolver resolver;
-    private final boolean strict;
-    private final StringBuilder consumer;
+    /**
+     * The largest scratch buffer kept between serializations, in characters.
+     */
+    private static final int MAX_RETAINED_SCRATCH = 8192;
+
+    final SerializableResolver resolver;
+    final boolean strict;
+    private final char quote;
+    private final boolean abbreviate;
+    private StringBuilder consumer;
+    private @Nullable StringBuilder scratch;
+    private boolean active;
     private String[] activeTags = new String[4];
     private int tagLevel = 0;
     private TagState tagState = TagState.TEXT;
 
     Collector(final SerializableResolver resolver, final boolean strict, final StringBuilder consumer) {
+      this(resolver, strict, '\'', false);
+      this.consumer = consumer;
+    }
+
+    Collector(final SerializableResolver resolver, final boolean strict, final char quote, final boolean abbreviate) {
       this.resolver = resolver;
       this.strict = strict;
+      this.quote = quote;
+      this.abbreviate = abbreviate;
+    }
+
+    // reuse
+
+    /**
+     * Get a collector with the same settings that is free to use.
+     *
+     * <p>This is this collector unless it is currently serializing, for example when a tag serializes a nested component.</p>
+     *
+     * @return an idle collector
+     */
+    Collector idle() {
+      return this.active ? new Collector(this.resolver, this.strict, this.quote, this.abbreviate) : this;
+    }
+
+    private void begin(final StringBuilder consumer) {
+      this.active = true;
       this.consumer = consumer;
+      this.tagLevel = 0;
+      this.tagState = TagState.TEXT;
+      this.componentClaim = null;
+      this.claimedStyleElements.clear();
+    }
+
+    private void end() {
+      Arrays.fill(this.activeTags, 0, this.tagLevel, null);
+      this.tagLevel = 0;
+      this.consumer = null;
+      this.active = false;
+    }
+
+    private StringBuilder scratch() {
+      if (this.scratch == null) {
+        this.scratch = new StringBuilder();
+      } else {
+        this.scratch.setLength(0);
+      }
+      return this.scratch;
+    }
+
+    private void trimScratch() {
+      if (this.scratch != null && this.scratch.capacity() > MAX_RETAINED_SCRATCH) {
+        this.scratch = null;
+      }
     }
 
     // state tracking
@@ -208,7 +288,7 @@ final class MiniMessageSerializer {
 
     @Override
     public @NotNull TokenEmitter argument(final @NotNull Component arg) {
-      final String serialized = MiniMessageSerializer.serialize(arg, this.resolver, this.strict);
+      final String serialized = MiniMessageSerializer.serialize(arg, this.idle());
       return this.argument(serialized, QuotingOverride.QUOTED); // always quote tokens
     }
 
@@ -220,39 +300,40 @@ final class MiniMessageSerializer {
       return this;
     }
 
+    @Override
+    public boolean abbreviatedNames() {
+      return this.abbreviate;
+    }
+
     private void escapeTagContent(final String content, final @Nullable QuotingOverride preference) {
       boolean mustBeQuoted = preference == QuotingOverride.QUOTED;
-      boolean hasSingleQuote = false;
-      boolean hasDoubleQuote = false;
+      boolean hasPreferredQuote = false;
 
       for (int i = 0; i < content.length(); i++) {
         final char active = content.charAt(i);
-        if (active == TokenParser.TAG_END || active == TokenParser.SEPARATOR || active == ' ') { // space is not technically required here, but is preferred
-          mustBeQuoted = true;
-          if (hasSingleQuote && hasDoubleQuote) break;
-        } else if (active == '\'') {
-          hasSingleQuote = true;
+        if (active == this.quote) {
+          hasPreferredQuote = true;
           break; // we know our quoting style
-        } else if (active == '"') {
-          hasDoubleQuote = true;
-          if (mustBeQuoted && hasSingleQuote) break;
+        } else if (active == TokenParser.TAG_END || active == TokenParser.SEPARATOR || active == ' ' || active == '\'' || active == '"') { // space is not technically required here, but is preferred
+          mustBeQuoted = true;
         }
       }
 
-      if (hasSingleQuote) { // double-quoted
-        this.consumer.append('"');
-        appendEscaping(this.consumer, content, DOUBLE_QUOTED_ESCAPES, true);
-        this.consumer.append('"');
-      } else if (hasDoubleQuote || mustBeQuoted) {
-        // single-quoted
-        this.consumer.append('\'');
-        appendEscaping(this.consumer, content, SINGLE_QUOTED_ESCAPES, true);
-        this.consumer.append('\'');
+      if (hasPreferredQuote) { // quoted with the other style
+        this.appendQuoted(content, this.quote == '"' ? '\'' : '"');
+      } else if (mustBeQuoted) {
+        this.appendQuoted(content, this.quote);
       } else { // unquoted
         appendEscaping(this.consumer, content, TAG_TOKENS, false);
       }
     }
 
+    private void appendQuoted(final String content, final char quote) {
+      this.consumer.append(quote);
+      appendEscaping(this.consumer, content, quote == '"' ? DOUBLE_QUOTED_ESCAPES : SINGLE_QUOTED_ESCAPES, true);
+      this.consumer.append(quote);
+    }
+
     static void appendEscaping(final StringBuilder builder, final String text, final char[] escapeChars, final boolean allowEscapes) {
       int startIdx = 0;
       boolean unescapedFound = false;
@@ -0,0 +1,135 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2022 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text.minimessage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import net.kyori.adventure.text.Component;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A bounded cache of deserialized components, evicting the least recently used inputs first.
+ *
+ * @since 4.13.0
+ */
+final class ParseCacheImpl implements MiniMessage.ParseCache {
+  private final int maximumSize;
+  private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+  private final ReentrantLock evictionLock = new ReentrantLock();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  ParseCacheImpl(final int maximumSize) {
+    this.maximumSize = maximumSize;
+  }
+
+  int maximumSize() {
+    return this.maximumSize;
+  }
+
+  @Nullable Component get(final @NotNull String input) {
+    final @Nullable Entry entry = this.entries.get(input);
+    if (entry == null) return null; // only counted as a miss once we know the result could be cached
+
+    entry.lastAccess = System.nanoTime();
+    this.hits.increment();
+    return entry.component;
+  }
+
+  void put(final @NotNull String input, final @NotNull Component component) {
+    this.misses.increment();
+    this.entries.put(input, new Entry(component, System.nanoTime()));
+    if (this.entries.size() > this.maximumSize) {
+      this.evict();
+    }
+  }
+
+  private void evict() {
+    // only one thread needs to evict, any others can carry on parsing
+    if (!this.evictionLock.tryLock()) return;
+    try {
+      final List<Map.Entry<String, Entry>> candidates = new ArrayList<>(this.entries.entrySet());
+      final int excess = candidates.size() - this.maximumSize;
+      if (excess <= 0) return;
+
+      // free some extra room, so a full cache does not sort its entries on every insertion
+      final int toRemove = Math.min(candidates.size(), excess + this.maximumSize / 8);
+      // access times keep changing while we work, so everything is decided on one snapshot of them
+      final long[] accessed = new long[candidates.size()];
+      for (int i = 0; i < accessed.length; i++) {
+        accessed[i] = candidates.get(i).getValue().lastAccess;
+      }
+      final long[] sorted = accessed.clone();
+      Arrays.sort(sorted);
+      final long threshold = sorted[toRemove - 1];
+
+      int removed = 0;
+      for (int i = 0; i < accessed.length && removed < toRemove; i++) {
+        if (accessed[i] <= threshold) {
+          final Map.Entry<String, Entry> candidate = candidates.get(i);
+          this.entries.remove(candidate.getKey(), candidate.getValue());
+          removed++;
+        }
+      }
+    } finally {
+      this.evictionLock.unlock();
+    }
+  }
+
+  @Override
+  public long hits() {
+    return this.hits.sum();
+  }
+
+  @Override
+  public long misses() {
+    return this.misses.sum();
+  }
+
+  @Override
+  public int size() {
+    return this.entries.size();
+  }
+
+  @Override
+  public void invalidateAll() {
+    this.entries.clear();
+  }
+
+  static final class Entry {
+    final Component component;
+    volatile long lastAccess;
+
+    Entry(final Component component, final long lastAccess) {
+      this.component = component;
+      this.lastAccess = lastAccess;
+    }
+  }
+}
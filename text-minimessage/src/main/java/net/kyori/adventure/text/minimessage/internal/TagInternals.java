@@ -63,7 +63,33 @@ public final class TagInternals {
    * @since 4.10.1
    */
   public static boolean sanitizeAndCheckValidTagName(final @NotNull String tagName) {
-    return TAG_NAME_PATTERN.matcher(Objects.requireNonNull(tagName).toLowerCase(Locale.ROOT)).matches();
+    return sanitizeAndCheckValidTagName(Objects.requireNonNull(tagName), 0, tagName.length());
+  }
+
+  /**
+   * Checks if a region of a string is a valid tag name when sanitized by converting it to lowercase,
+   * without creating a string for the region.
+   *
+   * @param text the text containing the tag name
+   * @param start the start index of the tag name
+   * @param end the end index of the tag name
+   * @return validity of this tag when sanitized
+   * @since 4.13.0
+   */
+  public static boolean sanitizeAndCheckValidTagName(final @NotNull CharSequence text, final int start, final int end) {
+    for (int i = start; i < end; i++) {
+      final char c = text.charAt(i);
+      if (c >= 0x80) {
+        // some non-ascii characters lowercase into ascii, leave those to the pattern
+        return TAG_NAME_PATTERN.matcher(text.subSequence(start, end).toString().toLowerCase(Locale.ROOT)).matches();
+      }
+      final boolean valid = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_' || c == '-'
+        || (i == start && (c == '!' || c == '?' || c == '#'));
+      if (!valid) {
+        return false;
+      }
+    }
+    return true;
   }
 
   /**
@@ -92,6 +92,32 @@ public final class TokenParser {
     return buildTree(tagProvider, tagNameChecker, tokens, message, originalMessage, strict);
   }
 
+  /**
+   * Parse an already tokenized minimessage string into a tree of nodes.
+   *
+   * <p>The tokens are only read, so the same tokens may be used to build many trees.</p>
+   *
+   * @param tagProvider provides tags based on the available information
+   * @param tagNameChecker checker for tag names, performing necessary tag normalization
+   * @param tokens the tokens of {@code message}, as produced by {@link #tokenize(String, boolean)}
+   * @param message the minimessage string to parse, after processing for preprocess tags
+   * @param originalMessage the string to parse, before preprocess tags
+   * @param strict whether parsing in strict mode
+   * @return the root of the resulting tree
+   * @throws ParsingException if invalid input is provided when in strict mode
+   * @since 4.13.0
+   */
+  public static RootNode parse(
+    final @NotNull TagProvider tagProvider,
+    final @NotNull Predicate<String> tagNameChecker,
+    final @NotNull List<Token> tokens,
+    final @NotNull String message,
+    final @NotNull String originalMessage,
+    final boolean strict
+  ) throws ParsingException {
+    return buildTree(tagProvider, tagNameChecker, tokens, message, originalMessage, strict);
+  }
+
   /**
    * Resolves all pre-process tags in a string.
    *
@@ -101,19 +127,47 @@ public final class TokenParser {
    * @since 4.10.0
    */
   public static String resolvePreProcessTags(final String message, final TagProvider provider) {
+    // without a tag there is nothing to resolve, but the scan is still needed to reject legacy formatting codes
+    if (message.indexOf(TAG_START) == -1 && message.indexOf('§') == -1) {
+      return message;
+    }
+    return resolvePreProcessTags(message, provider, null);
+  }
+
+  /**
+   * Resolves all pre-process tags in a string, collecting the tokens of the resulting string.
+   *
+   * <p>The last pass over the message finds no more pre-process tags to resolve, so the tokens it matched
+   * are the tokens of the result. Collecting them saves tokenizing the result again.</p>
+   *
+   * @param message the message
+   * @param provider the tag resolver, to gather preprocess tags
+   * @param tokens a list to add the tokens of the resulting string to, as {@link #tokenize(String, boolean)} would produce them, or {@code null}
+   * @return the resulting string
+   * @since 4.13.0
+   */
+  public static String resolvePreProcessTags(final String message, final TagProvider provider, final @Nullable List<Token> tokens) {
     int passes = 0;
     String lastResult;
     String result = message;
+    StringResolvingMatchedTokenConsumer stringTokenResolver;
 
     do {
       lastResult = result;
-      final StringResolvingMatchedTokenConsumer stringTokenResolver = new StringResolvingMatchedTokenConsumer(lastResult, provider);
+      stringTokenResolver = new StringResolvingMatchedTokenConsumer(lastResult, provider);
 
       parseString(lastResult, false, stringTokenResolver);
       result = stringTokenResolver.result();
       passes++;
     } while (passes < MAX_DEPTH && !lastResult.equals(result));
 
+    if (tokens != null) {
+      // the last pass was a scan of lastResult, whatever the reason we stopped
+      final List<Token> matched = stringTokenResolver.tokens();
+      parseSecondPass(lastResult, matched);
+      tokens.addAll(matched);
+    }
+
     return lastResult;
   }
 
@@ -289,93 +343,107 @@ public final class TokenParser {
   /*
    * Second pass over the tag tokens identifies tag parts
    */
-  @SuppressWarnings("DuplicatedCode")
   private static void parseSecondPass(final String message, final List<Token> tokens) {
     for (final Token token : tokens) {
       final TokenType type = token.type();
-      if (type != TokenType.OPEN_TAG && type != TokenType.OPEN_CLOSE_TAG && type != TokenType.CLOSE_TAG) {
-        continue;
+      if (type == TokenType.OPEN_TAG || type == TokenType.OPEN_CLOSE_TAG || type == TokenType.CLOSE_TAG) {
+        parseTagParts(message, token);
       }
+    }
+  }
 
-      // Only look inside the tag <[/] and >
-      final int startIndex = type == TokenType.CLOSE_TAG ? token.startIndex() + 2 : token.startIndex() + 1;
-      final int endIndex = type == TokenType.OPEN_CLOSE_TAG ? token.endIndex() - 2 : token.endIndex() - 1;
+  /**
+   * Identifies the parts of a single tag token, adding them to the token as its child tokens.
+   *
+   * <p>This is the second pass of {@link #tokenize(String, boolean)}, for consumers of {@link #parseString(String, boolean, MatchedTokenConsumer)}
+   * that handle tokens as they are matched.</p>
+   *
+   * @param message the message containing the token
+   * @param token an {@link TokenType#OPEN_TAG}, {@link TokenType#OPEN_CLOSE_TAG} or {@link TokenType#CLOSE_TAG} token without child tokens
+   * @since 4.13.0
+   */
+  @SuppressWarnings("DuplicatedCode")
+  public static void parseTagParts(final String message, final Token token) {
+    final TokenType type = token.type();
 
-      SecondPassState state = SecondPassState.NORMAL;
-      boolean escaped = false;
-      char currentStringChar = 0;
+    // Only look inside the tag <[/] and >
+    final int startIndex = type == TokenType.CLOSE_TAG ? token.startIndex() + 2 : token.startIndex() + 1;
+    final int endIndex = type == TokenType.OPEN_CLOSE_TAG ? token.endIndex() - 2 : token.endIndex() - 1;
 
-      // Marker is the starting index for the current token
-      int marker = startIndex;
+    SecondPassState state = SecondPassState.NORMAL;
+    boolean escaped = false;
+    char currentStringChar = 0;
 
-      for (int i = startIndex; i < endIndex; i++) {
-        final int codePoint = message.codePointAt(i);
-        if (!Character.isBmpCodePoint(i)) {
-          i++;
-        }
+    // Marker is the starting index for the current token
+    int marker = startIndex;
 
-        if (!escaped) {
-          // if we're trying to escape and the next character exists
-          if (codePoint == ESCAPE && i + 1 < message.length()) {
-            final int nextCodePoint = message.codePointAt(i + 1);
+    for (int i = startIndex; i < endIndex; i++) {
+      final int codePoint = message.codePointAt(i);
+      if (!Character.isBmpCodePoint(i)) {
+        i++;
+      }
 
-            switch (state) {
-              case NORMAL:
-                // allow escaping open tokens
-                escaped = nextCodePoint == TAG_START || nextCodePoint == ESCAPE;
-                break;
-              case STRING:
-                // allow escaping closing string chars
-                escaped = currentStringChar == nextCodePoint || nextCodePoint == ESCAPE;
-                break;
-            }
+      if (!escaped) {
+        // if we're trying to escape and the next character exists
+        if (codePoint == ESCAPE && i + 1 < message.length()) {
+          final int nextCodePoint = message.codePointAt(i + 1);
 
-            // only escape if we need to
-            if (escaped) {
-              continue;
-            }
+          switch (state) {
+            case NORMAL:
+              // allow escaping open tokens
+              escaped = nextCodePoint == TAG_START || nextCodePoint == ESCAPE;
+              break;
+            case STRING:
+              // allow escaping closing string chars
+              escaped = currentStringChar == nextCodePoint || nextCodePoint == ESCAPE;
+              break;
+          }
+
+          // only escape if we need to
+          if (escaped) {
+            continue;
           }
-        } else {
-          escaped = false;
-          continue;
         }
+      } else {
+        escaped = false;
+        continue;
+      }
 
-        switch (state) {
-          case NORMAL:
-            // Values are split by : unless it's in a URL
-            if (codePoint == SEPARATOR) {
-              if (boundsCheck(message, i, 2) && message.charAt(i + 1) == '/' && message.charAt(i + 2) == '/') {
-                break;
-              }
-              if (marker == i) {
-                // 2 colons side-by-side like <::> or <:text> or <text::text> would lead to this happening
-                insert(token, new Token(i, i, TokenType.TAG_VALUE));
-                marker++;
-              } else {
-                insert(token, new Token(marker, i, TokenType.TAG_VALUE));
-                marker = i + 1;
-              }
-            } else if (codePoint == '\'' || codePoint == '"') {
-              state = SecondPassState.STRING;
-              currentStringChar = (char) codePoint;
+      switch (state) {
+        case NORMAL:
+          // Values are split by : unless it's in a URL
+          if (codePoint == SEPARATOR) {
+            if (boundsCheck(message, i, 2) && message.charAt(i + 1) == '/' && message.charAt(i + 2) == '/') {
+              break;
             }
-            break;
-          case STRING:
-            if (codePoint == currentStringChar) {
-              state = SecondPassState.NORMAL;
+            if (marker == i) {
+              // 2 colons side-by-side like <::> or <:text> or <text::text> would lead to this happening
+              insert(token, new Token(i, i, TokenType.TAG_VALUE));
+              marker++;
+            } else {
+              insert(token, new Token(marker, i, TokenType.TAG_VALUE));
+              marker = i + 1;
             }
-            break;
-        }
+          } else if (codePoint == '\'' || codePoint == '"') {
+            state = SecondPassState.STRING;
+            currentStringChar = (char) codePoint;
+          }
+          break;
+        case STRING:
+          if (codePoint == currentStringChar) {
+            state = SecondPassState.NORMAL;
+          }
+          break;
       }
+    }
 
-      // anything not matched is the final part
-      if (token.childTokens() == null || token.childTokens().isEmpty()) {
-        insert(token, new Token(startIndex, endIndex, TokenType.TAG_VALUE));
-      } else {
-        final int end = token.childTokens().get(token.childTokens().size() - 1).endIndex();
-        if (end != endIndex) {
-          insert(token, new Token(end + 1, endIndex, TokenType.TAG_VALUE));
-        }
+    // anything not matched is the final part
+    if (token.childTokens() == null || token.childTokens().isEmpty()) {
+      insert(token, new Token(startIndex, endIndex, TokenType.TAG_VALUE));
+    } else {
+      final int end = token.childTokens().get(token.childTokens().size() - 1).endIndex();
+      if (end != endIndex) {
+        insert(token, new Token(end + 1, endIndex, TokenType.TAG_VALUE));
       }
     }
   }
@@ -405,8 +473,7 @@ public final class TokenParser {
         case OPEN_CLOSE_TAG:
           // Check if this even is a valid tag
           final Token tagNamePart = token.childTokens().get(0);
-          final String tagName = message.substring(tagNamePart.startIndex(), tagNamePart.endIndex());
-          if (!TagInternals.sanitizeAndCheckValidTagName(tagName)) {
+          if (!TagInternals.sanitizeAndCheckValidTagName(message, tagNamePart.startIndex(), tagNamePart.endIndex())) {
             // This wouldn't be a valid tag, just parse it as text instead!
             node.addChild(new TextNode(node, token, message));
             break;
@@ -447,55 +514,41 @@ public final class TokenParser {
               "the parser should not allow this. Original text: " + message);
           }
 
-          final ArrayList<String> closeValues = new ArrayList<>(childTokens.size());
-          for (final Token childToken : childTokens) {
-            closeValues.add(TagPart.unquoteAndEscape(message, childToken.startIndex(), childToken.endIndex()));
+          // find the open tag this closes first, comparing against the message so no strings are created in the common case
+          ElementNode parentNode = node;
+          while (parentNode instanceof TagNode && !tagCloses(message, childTokens, ((TagNode) parentNode).parts())) {
+            parentNode = parentNode.parent();
           }
 
-          final String closeTagName = closeValues.get(0);
-
-          if (tagNameChecker.test(closeTagName)) {
-            final Tag tag = tagProvider.resolve(closeTagName);
-
-            if (tag == ParserDirective.RESET) {
-              // This is a synthetic node, closing it means nothing in the context of building a tree
-              continue;
+          if (parentNode instanceof TagNode) {
+            // the open tag was recognized under the same name, so this can be neither unknown nor a reset
+            if (parentNode != node && strict) {
+              final Token closeNamePart = childTokens.get(0);
+              final String msg = "Unclosed tag encountered; " + ((TagNode) node).name() + " is not closed, because " +
+                TagPart.unquoteAndEscape(message, closeNamePart.startIndex(), closeNamePart.endIndex()) + " was closed first.";
+              throw new ParsingExceptionImpl(msg, message, parentNode.token(), node.token(), token);
             }
-          } else {
-            // tag does not exist, so treat it as text
-            node.addChild(new TextNode(node, token, message));
-            continue;
-          }
-
-          ElementNode parentNode = node;
-          while (parentNode instanceof TagNode) {
-            final List<TagPart> openParts = ((TagNode) parentNode).parts();
-
-            if (tagCloses(closeValues, openParts)) {
-              if (parentNode != node && strict) {
-                final String msg = "Unclosed tag encountered; " + ((TagNode) node).name() + " is not closed, because " +
-                  closeValues.get(0) + " was closed first.";
-                throw new ParsingExceptionImpl(msg, message, parentNode.token(), node.token(), token);
-              }
 
-              final ElementNode par = parentNode.parent();
-              if (par != null) {
-                node = par;
-              } else {
-                throw new IllegalStateException("Root node matched with close tag value, " +
-                  "this should not be possible. Original text: " + message);
-              }
-              break;
+            final ElementNode par = parentNode.parent();
+            if (par != null) {
+              node = par;
+            } else {
+              throw new IllegalStateException("Root node matched with close tag value, " +
+                "this should not be possible. Original text: " + message);
             }
-
-            parentNode = parentNode.parent();
-          }
-          if (parentNode == null || parentNode instanceof RootNode) {
-            // This means the closing tag didn't match to anything
-            // Since open tags which don't match to anything is never an error, neither is this
-            node.addChild(new TextNode(node, token, message));
             break;
           }
+
+          final Token closeNamePart = childTokens.get(0);
+          final String closeTagName = TagPart.unquoteAndEscape(message, closeNamePart.startIndex(), closeNamePart.endIndex());
+          if (tagNameChecker.test(closeTagName) && tagProvider.resolve(closeTagName) == ParserDirective.RESET) {
+            // This is a synthetic node, closing it means nothing in the context of building a tree
+            continue;
+          }
+
+          // This means the closing tag didn't match to anything
+          // Since open tags which don't match to anything is never an error, neither is this
+          node.addChild(new TextNode(node, token, message));
           break; // CLOSE_TAG
         default: // ignore other tags
           break;
@@ -540,29 +593,38 @@ public final class TokenParser {
   }
 
   /**
-   * Determine if a set of close string parts closes the given list of open tag parts. If the open parts starts with
+   * Determine if a set of close tag parts closes the given list of open tag parts. If the open parts starts with
    * the set of close parts, then this method returns {@code true}.
    *
-   * @param closeParts The parts of the close tag
+   * @param message the message containing the close tag
+   * @param closeParts The tokens of the parts of the close tag
    * @param openParts The parts of the open tag
    * @return {@code true} if the given close parts closes the open tag parts.
    */
-  private static boolean tagCloses(final List<String> closeParts, final List<TagPart> openParts) {
+  private static boolean tagCloses(final String message, final List<Token> closeParts, final List<TagPart> openParts) {
     if (closeParts.size() > openParts.size()) {
       return false;
     }
     // The tag name is case-insensitive, but the tag values are not
-    if (!closeParts.get(0).equalsIgnoreCase(openParts.get(0).value())) {
-      return false;
-    }
-    for (int i = 1; i < closeParts.size(); i++) {
-      if (!closeParts.get(i).equals(openParts.get(i).value())) {
+    for (int i = 0; i < closeParts.size(); i++) {
+      if (!partEquals(message, closeParts.get(i), openParts.get(i).value(), i == 0)) {
         return false;
       }
     }
     return true;
   }
 
+  private static boolean partEquals(final String message, final Token part, final String value, final boolean ignoreCase) {
+    final int start = part.startIndex();
+    final int length = part.endIndex() - start;
+    if (length > 0 && (message.charAt(start) == '\'' || message.charAt(start) == '"')) {
+      // quoted parts may contain escapes
+      final String unquoted = TagPart.unquoteAndEscape(message, start, part.endIndex());
+      return ignoreCase ? unquoted.equalsIgnoreCase(value) : unquoted.equals(value);
+    }
+    return length == value.length() && message.regionMatches(ignoreCase, start, value, 0, length);
+  }
+
   /**
    * Returns {@code true} if it's okay to check for characters up to the given length. Returns {@code false} if the
    * string is too short.
@@ -48,6 +48,7 @@ import static net.kyori.adventure.text.minimessage.internal.parser.TokenParser.t
 public final class StringResolvingMatchedTokenConsumer extends MatchedTokenConsumer<String> {
   private final StringBuilder builder;
   private final TagProvider tagProvider;
+  private final List<Token> tokens = new ArrayList<>();
 
   /**
    * Creates a string resolving matched token consumer.
@@ -68,20 +69,20 @@ public final class StringResolvingMatchedTokenConsumer extends MatchedTokenConsu
   @Override
   public void accept(final int start, final int end, final @NotNull TokenType tokenType) {
     super.accept(start, end, tokenType);
+    this.tokens.add(new Token(start, end, tokenType));
 
     if (tokenType != TokenType.OPEN_TAG) {
       // just add it normally, we don't care about other tags
       this.builder.append(this.input, start, end);
     } else {
       // well, now we need to work out if it's a tag or a placeholder!
-      final String match = this.input.substring(start, end);
-      final String cleanup = this.input.substring(start + 1, end - 1);
-
-      final int index = cleanup.indexOf(SEPARATOR);
-      final String tag = index == -1 ? cleanup : cleanup.substring(0, index);
+      final int index = this.input.indexOf(SEPARATOR, start + 1);
+      final int tagEnd = index == -1 || index >= end - 1 ? end - 1 : index;
 
       // we might care if it's a valid tag!
-      if (TagInternals.sanitizeAndCheckValidTagName(tag)) {
+      if (TagInternals.sanitizeAndCheckValidTagName(this.input, start + 1, tagEnd)) {
+        final String match = this.input.substring(start, end);
+        final String tag = this.input.substring(start + 1, tagEnd);
         final List<Token> tokens = tokenize(match, false);
         final List<TagPart> parts = new ArrayList<>();
         final List<Token> childs = tokens.isEmpty() ? null : tokens.get(0).childTokens();
@@ -100,7 +101,7 @@ public final class StringResolvingMatchedTokenConsumer extends MatchedTokenConsu
       }
 
       // if we get here, the placeholder wasn't found or was null
-      this.builder.append(match);
+      this.builder.append(this.input, start, end);
     }
   }
 
@@ -108,4 +109,16 @@ public final class StringResolvingMatchedTokenConsumer extends MatchedTokenConsu
   public @NotNull String result() {
     return this.builder.toString();
   }
+
+  /**
+   * Gets the tokens matched in the input, before any replacement.
+   *
+   * <p>These are the tokens {@link TokenParser#tokenize(String, boolean)} would produce for the input, without their child tokens.</p>
+   *
+   * @return the matched tokens
+   * @since 4.13.0
+   */
+  public @NotNull List<Token> tokens() {
+    return this.tokens;
+  }
 }
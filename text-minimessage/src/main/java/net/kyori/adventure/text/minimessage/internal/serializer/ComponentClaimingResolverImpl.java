@@ -23,19 +23,21 @@
  */
 package net.kyori.adventure.text.minimessage.internal.serializer;
 
+import java.util.Collections;
 import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.minimessage.Context;
 import net.kyori.adventure.text.minimessage.ParsingException;
+import net.kyori.adventure.text.minimessage.internal.FixedNameResolver;
 import net.kyori.adventure.text.minimessage.tag.Tag;
 import net.kyori.adventure.text.minimessage.tag.resolver.ArgumentQueue;
 import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-class ComponentClaimingResolverImpl implements TagResolver, SerializableResolver.Single {
+class ComponentClaimingResolverImpl implements TagResolver, SerializableResolver.Single, FixedNameResolver {
   private final @NotNull Set<String> names;
   private final @NotNull BiFunction<ArgumentQueue, Context, Tag> handler;
   private final @NotNull Function<Component, @Nullable Emitable> componentClaim;
@@ -58,6 +60,11 @@ class ComponentClaimingResolverImpl implements TagResolver, SerializableResolver
     return this.names.contains(name);
   }
 
+  @Override
+  public @NotNull Set<String> names() {
+    return Collections.unmodifiableSet(this.names);
+  }
+
   @Override
   public @Nullable Emitable claimComponent(final @NotNull Component component) {
     return this.componentClaim.apply(component);
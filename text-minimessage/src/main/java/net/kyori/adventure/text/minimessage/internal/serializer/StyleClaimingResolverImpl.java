@@ -23,17 +23,19 @@
  */
 package net.kyori.adventure.text.minimessage.internal.serializer;
 
+import java.util.Collections;
 import java.util.Set;
 import java.util.function.BiFunction;
 import net.kyori.adventure.text.minimessage.Context;
 import net.kyori.adventure.text.minimessage.ParsingException;
+import net.kyori.adventure.text.minimessage.internal.FixedNameResolver;
 import net.kyori.adventure.text.minimessage.tag.Tag;
 import net.kyori.adventure.text.minimessage.tag.resolver.ArgumentQueue;
 import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-final class StyleClaimingResolverImpl implements TagResolver, SerializableResolver.Single {
+final class StyleClaimingResolverImpl implements TagResolver, SerializableResolver.Single, FixedNameResolver {
   private final @NotNull Set<String> names;
   private final @NotNull BiFunction<ArgumentQueue, Context, Tag> handler;
   private final @NotNull StyleClaim<?> styleClaim;
@@ -56,6 +58,11 @@ final class StyleClaimingResolverImpl implements TagResolver, SerializableResolv
     return this.names.contains(name);
   }
 
+  @Override
+  public @NotNull Set<String> names() {
+    return Collections.unmodifiableSet(this.names);
+  }
+
   @Override
   public @Nullable StyleClaim<?> claimStyle() {
     return this.styleClaim;
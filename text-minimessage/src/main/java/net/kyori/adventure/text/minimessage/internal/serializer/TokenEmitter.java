@@ -113,6 +113,16 @@ public interface TokenEmitter {
    */
   @NotNull TokenEmitter text(final @NotNull String text);
 
+  /**
+   * Get whether tags should be emitted using their abbreviated names, for tags that have one.
+   *
+   * @return whether abbreviated tag names are preferred
+   * @since 4.13.0
+   */
+  default boolean abbreviatedNames() {
+    return false;
+  }
+
   /**
    * Explicitly end a token, only needed if there are multiple tokens within an {@link Emitable} for some reason.
    *
@@ -23,45 +23,120 @@
  */
 package net.kyori.adventure.text.minimessage.tag.resolver;
 
-import java.util.HashMap;
+import java.time.Duration;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.minimessage.internal.serializer.ClaimConsumer;
 import net.kyori.adventure.text.minimessage.internal.serializer.SerializableResolver;
-import net.kyori.adventure.text.minimessage.tag.Inserting;
 import net.kyori.adventure.text.minimessage.tag.Tag;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-final class CachingTagResolver implements TagResolver.WithoutArguments, MappableResolver, SerializableResolver {
-  private static final Tag NULL_REPLACEMENT = (Inserting) () -> {
-    throw new UnsupportedOperationException("no-op null tag");
-  };
+import static java.util.Objects.requireNonNull;
+
+final class CachingTagResolver implements TagResolver.Caching, MappableResolver, SerializableResolver {
+  static final int DEFAULT_MAXIMUM_SIZE = 1024;
+  static final int DEFAULT_MAXIMUM_NEGATIVE_SIZE = 256;
+  private static final long NO_EXPIRY = -1;
 
-  private final Map<String, Tag> cache = new HashMap<>();
   private final TagResolver.WithoutArguments resolver;
+  private final int maximumSize;
+  private final int maximumNegativeSize;
+  private final long expireAfterNanos;
+  // full maps are replaced rather than cleared, so a put racing with the replacement only lands in the discarded map
+  private volatile Map<String, Entry> tags = new ConcurrentHashMap<>();
+  private volatile Map<String, Entry> absent = new ConcurrentHashMap<>();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
 
-  CachingTagResolver(final TagResolver.WithoutArguments resolver) {
+  CachingTagResolver(final TagResolver.WithoutArguments resolver, final int maximumSize, final int maximumNegativeSize, final long expireAfterNanos) {
     this.resolver = resolver;
+    this.maximumSize = maximumSize;
+    this.maximumNegativeSize = maximumNegativeSize;
+    this.expireAfterNanos = expireAfterNanos;
   }
 
-  private Tag query(final @NotNull String key) {
-    return this.cache.computeIfAbsent(key, k -> {
-      final @Nullable Tag result = this.resolver.resolve(k);
-      return result == null ? NULL_REPLACEMENT : result;
-    });
+  /**
+   * Looks up a name, resolving and remembering it if it is not known.
+   *
+   * <p>The parser checks {@link #has(String)} before it calls {@link #resolve(String)}, so only resolving is counted.
+   * A name first resolved by {@code has} counts as a miss when it is next resolved.</p>
+   *
+   * @param key the name
+   * @param count whether to count this lookup as a hit or a miss
+   * @return the tag, or {@code null} if there is none
+   */
+  private @Nullable Tag query(final @NotNull String key, final boolean count) {
+    // an expired entry in one map must not hide a live one in the other
+    @Nullable Entry entry = this.tags.get(key);
+    if (!this.isLive(entry)) entry = this.absent.get(key);
+    if (this.isLive(entry)) {
+      if (count) {
+        if (entry.claimUncounted()) {
+          this.misses.increment();
+        } else {
+          this.hits.increment();
+        }
+      }
+      return entry.tag;
+    }
+
+    // the resolver is queried outside of the map, so resolvers can look up other names from this cache
+    if (count) this.misses.increment();
+    final @Nullable Tag result = this.resolver.resolve(key);
+    final long expiresAt = this.expireAfterNanos == NO_EXPIRY ? 0 : System.nanoTime() + this.expireAfterNanos;
+    if (result != null) {
+      Map<String, Entry> tags = this.tags;
+      if (tags.size() >= this.maximumSize) {
+        this.tags = tags = new ConcurrentHashMap<>();
+      }
+      tags.put(key, new Entry(result, expiresAt, !count));
+      this.absent.remove(key);
+    } else {
+      this.tags.remove(key);
+      if (this.maximumNegativeSize > 0) {
+        Map<String, Entry> absent = this.absent;
+        if (absent.size() >= this.maximumNegativeSize) {
+          this.absent = absent = new ConcurrentHashMap<>();
+        }
+        absent.put(key, new Entry(null, expiresAt, !count));
+      }
+    }
+    return result;
+  }
+
+  private boolean isLive(final @Nullable Entry entry) {
+    return entry != null && (this.expireAfterNanos == NO_EXPIRY || System.nanoTime() - entry.expiresAt < 0);
   }
 
   @Override
   public @Nullable Tag resolve(final @NotNull String name) {
-    final Tag potentialValue = this.query(name);
-    return potentialValue == NULL_REPLACEMENT ? null : potentialValue;
+    return this.query(name, true);
   }
 
   @Override
   public boolean has(final @NotNull String name) {
-    return this.query(name) != NULL_REPLACEMENT;
+    return this.query(name, false) != null;
+  }
+
+  @Override
+  public long hits() {
+    return this.hits.sum();
+  }
+
+  @Override
+  public long misses() {
+    return this.misses.sum();
+  }
+
+  @Override
+  public void invalidateAll() {
+    this.tags = new ConcurrentHashMap<>();
+    this.absent = new ConcurrentHashMap<>();
   }
 
   @Override
@@ -89,11 +164,83 @@ final class CachingTagResolver implements TagResolver.WithoutArguments, Mappable
       return false;
     }
     final CachingTagResolver that = (CachingTagResolver) other;
-    return Objects.equals(this.resolver, that.resolver);
+    return Objects.equals(this.resolver, that.resolver)
+      && this.maximumSize == that.maximumSize
+      && this.maximumNegativeSize == that.maximumNegativeSize
+      && this.expireAfterNanos == that.expireAfterNanos;
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(this.resolver);
+    return Objects.hash(this.resolver, this.maximumSize, this.maximumNegativeSize, this.expireAfterNanos);
+  }
+
+  static final class Entry {
+    private static final AtomicIntegerFieldUpdater<Entry> UNCOUNTED = AtomicIntegerFieldUpdater.newUpdater(Entry.class, "uncounted");
+    final @Nullable Tag tag;
+    final long expiresAt;
+    // 1 while the miss that created this entry has not been counted yet
+    private volatile int uncounted;
+
+    Entry(final @Nullable Tag tag, final long expiresAt, final boolean uncounted) {
+      this.tag = tag;
+      this.expiresAt = expiresAt;
+      this.uncounted = uncounted ? 1 : 0;
+    }
+
+    boolean claimUncounted() {
+      return this.uncounted != 0 && UNCOUNTED.compareAndSet(this, 1, 0);
+    }
+  }
+
+  static final class BuilderImpl implements TagResolver.Caching.Builder {
+    private final TagResolver.WithoutArguments resolver;
+    private int maximumSize = DEFAULT_MAXIMUM_SIZE;
+    private int maximumNegativeSize = DEFAULT_MAXIMUM_NEGATIVE_SIZE;
+    private @Nullable Duration expireAfterWrite;
+
+    BuilderImpl(final TagResolver.@NotNull WithoutArguments resolver) {
+      this.resolver = resolver;
+    }
+
+    @Override
+    public TagResolver.Caching.@NotNull Builder maximumSize(final int maximumSize) {
+      if (maximumSize < 1) throw new IllegalArgumentException("maximumSize must be positive, was " + maximumSize);
+      this.maximumSize = maximumSize;
+      return this;
+    }
+
+    @Override
+    public TagResolver.Caching.@NotNull Builder maximumNegativeSize(final int maximumNegativeSize) {
+      if (maximumNegativeSize < 0) throw new IllegalArgumentException("maximumNegativeSize must not be negative, was " + maximumNegativeSize);
+      this.maximumNegativeSize = maximumNegativeSize;
+      return this;
+    }
+
+    @Override
+    public TagResolver.Caching.@NotNull Builder expireAfterWrite(final @Nullable Duration duration) {
+      if (duration != null && duration.isNegative()) throw new IllegalArgumentException("duration must not be negative, was " + duration);
+      this.expireAfterWrite = duration;
+      return this;
+    }
+
+    @Override
+    public TagResolver.@NotNull Caching build() {
+      return new CachingTagResolver(
+        requireNonNull(this.resolver, "resolver"),
+        this.maximumSize,
+        this.maximumNegativeSize,
+        this.expireAfterWrite == null ? NO_EXPIRY : expireAfterNanos(this.expireAfterWrite)
+      );
+    }
+
+    private static long expireAfterNanos(final Duration duration) {
+      try {
+        return duration.toNanos();
+      } catch (final ArithmeticException ex) {
+        // longer than about 292 years, which is never reached
+        return NO_EXPIRY;
+      }
+    }
   }
 }
@@ -23,16 +23,19 @@
  */
 package net.kyori.adventure.text.minimessage.tag.resolver;
 
+import java.util.Collections;
 import java.util.Map;
+import java.util.Set;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.minimessage.Context;
+import net.kyori.adventure.text.minimessage.internal.FixedNameResolver;
 import net.kyori.adventure.text.minimessage.internal.serializer.ClaimConsumer;
 import net.kyori.adventure.text.minimessage.internal.serializer.SerializableResolver;
 import net.kyori.adventure.text.minimessage.tag.Tag;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-final class EmptyTagResolver implements TagResolver, MappableResolver, SerializableResolver {
+final class EmptyTagResolver implements TagResolver, MappableResolver, SerializableResolver, FixedNameResolver {
   static final EmptyTagResolver INSTANCE = new EmptyTagResolver();
 
   private EmptyTagResolver() {
@@ -48,6 +51,11 @@ final class EmptyTagResolver implements TagResolver, MappableResolver, Serializa
     return false;
   }
 
+  @Override
+  public @NotNull Set<String> names() {
+    return Collections.emptySet();
+  }
+
   @Override
   public boolean contributeToMap(final @NotNull Map<String, Tag> map) {
     return true;
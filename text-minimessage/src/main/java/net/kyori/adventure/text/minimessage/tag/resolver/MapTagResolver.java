@@ -23,13 +23,16 @@
  */
 package net.kyori.adventure.text.minimessage.tag.resolver;
 
+import java.util.Collections;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import net.kyori.adventure.text.minimessage.internal.FixedNameResolver;
 import net.kyori.adventure.text.minimessage.tag.Tag;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-final class MapTagResolver implements TagResolver.WithoutArguments, MappableResolver {
+final class MapTagResolver implements TagResolver.WithoutArguments, MappableResolver, FixedNameResolver {
   private final Map<String, ? extends Tag> tagMap;
 
   MapTagResolver(final @NotNull Map<String, ? extends Tag> placeholderMap) {
@@ -41,6 +44,16 @@ final class MapTagResolver implements TagResolver.WithoutArguments, MappableReso
     return this.tagMap.get(name);
   }
 
+  @Override
+  public boolean has(final @NotNull String name) {
+    return this.tagMap.containsKey(name);
+  }
+
+  @Override
+  public @NotNull Set<String> names() {
+    return Collections.unmodifiableSet(this.tagMap.keySet());
+  }
+
   @Override
   public boolean contributeToMap(final @NotNull Map<String, Tag> map) {
     map.putAll(this.tagMap);
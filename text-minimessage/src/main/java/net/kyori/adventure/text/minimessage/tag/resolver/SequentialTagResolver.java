@@ -23,18 +23,30 @@
  */
 package net.kyori.adventure.text.minimessage.tag.resolver;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.minimessage.Context;
 import net.kyori.adventure.text.minimessage.ParsingException;
+import net.kyori.adventure.text.minimessage.internal.FixedNameResolver;
 import net.kyori.adventure.text.minimessage.internal.serializer.ClaimConsumer;
 import net.kyori.adventure.text.minimessage.internal.serializer.SerializableResolver;
 import net.kyori.adventure.text.minimessage.tag.Tag;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-final class SequentialTagResolver implements TagResolver, SerializableResolver {
+final class SequentialTagResolver implements TagResolver, SerializableResolver, FixedNameResolver {
+  // short chains are cheaper to walk than to look up
+  private static final int INDEX_THRESHOLD = 4;
+
   final TagResolver[] resolvers;
+  private volatile @Nullable Index index;
 
   SequentialTagResolver(final @NotNull TagResolver@NotNull[] resolvers) {
     this.resolvers = resolvers;
@@ -43,7 +55,7 @@ final class SequentialTagResolver implements TagResolver, SerializableResolver {
   @Override
   public @Nullable Tag resolve(final @NotNull String name, final @NotNull ArgumentQueue arguments, final @NotNull Context ctx) throws ParsingException {
     @Nullable ParsingException thrown = null;
-    for (final TagResolver resolver : this.resolvers) {
+    for (final TagResolver resolver : this.candidates(name)) {
       try {
         final @Nullable Tag placeholder = resolver.resolve(name, arguments, ctx);
 
@@ -74,7 +86,20 @@ final class SequentialTagResolver implements TagResolver, SerializableResolver {
 
   @Override
   public boolean has(final @NotNull String name) {
-    for (final TagResolver resolver : this.resolvers) {
+    if (this.resolvers.length < INDEX_THRESHOLD) {
+      for (final TagResolver resolver : this.resolvers) {
+        if (resolver.has(name)) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    final Index index = this.index();
+    if (index.byName.containsKey(name)) {
+      return true;
+    }
+    for (final TagResolver resolver : index.dynamic) {
       if (resolver.has(name)) {
         return true;
       }
@@ -82,6 +107,29 @@ final class SequentialTagResolver implements TagResolver, SerializableResolver {
     return false;
   }
 
+  @Override
+  public @Nullable Set<String> names() {
+    return this.index().names;
+  }
+
+  private TagResolver[] candidates(final String name) {
+    if (this.resolvers.length < INDEX_THRESHOLD) {
+      return this.resolvers;
+    }
+    final Index index = this.index();
+    final TagResolver @Nullable [] named = index.byName.get(name);
+    return named == null ? index.dynamic : named;
+  }
+
+  private Index index() {
+    Index index = this.index;
+    if (index == null) {
+      // built at most a few times under contention, every copy is identical
+      this.index = index = new Index(this.resolvers);
+    }
+    return index;
+  }
+
   @Override
   public void handle(final @NotNull Component serializable, final @NotNull ClaimConsumer consumer) {
     for (final TagResolver resolver : this.resolvers) {
@@ -107,4 +155,44 @@ final class SequentialTagResolver implements TagResolver, SerializableResolver {
   public int hashCode() {
     return Arrays.hashCode(this.resolvers);
   }
+
+  /**
+   * The resolvers that may handle each tag name, in priority order.
+   */
+  static final class Index {
+    final Map<String, TagResolver[]> byName;
+    // resolvers with no fixed names, these may handle any tag
+    final TagResolver[] dynamic;
+    final @Nullable Set<String> names;
+
+    Index(final TagResolver[] resolvers) {
+      final List<Set<String>> known = new ArrayList<>(resolvers.length);
+      final List<TagResolver> dynamic = new ArrayList<>();
+      final Set<String> names = new HashSet<>();
+      for (final TagResolver resolver : resolvers) {
+        final @Nullable Set<String> resolverNames = resolver instanceof FixedNameResolver ? ((FixedNameResolver) resolver).names() : null;
+        known.add(resolverNames);
+        if (resolverNames == null) {
+          dynamic.add(resolver);
+        } else {
+          names.addAll(resolverNames);
+        }
+      }
+
+      this.byName = new HashMap<>();
+      final List<TagResolver> candidates = new ArrayList<>(resolvers.length);
+      for (final String name : names) {
+        for (int i = 0; i < resolvers.length; i++) {
+          final @Nullable Set<String> resolverNames = known.get(i);
+          if (resolverNames == null || resolverNames.contains(name)) {
+            candidates.add(resolvers[i]);
+          }
+        }
+        this.byName.put(name, candidates.toArray(new TagResolver[0]));
+        candidates.clear();
+      }
+      this.dynamic = dynamic.toArray(new TagResolver[0]);
+      this.names = dynamic.isEmpty() ? Collections.unmodifiableSet(names) : null;
+    }
+  }
 }
@@ -23,6 +23,7 @@
  */
 package net.kyori.adventure.text.minimessage.tag.resolver;
 
+import java.time.Duration;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
@@ -30,6 +31,7 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.stream.Collector;
+import net.kyori.adventure.builder.AbstractBuilder;
 import net.kyori.adventure.text.minimessage.Context;
 import net.kyori.adventure.text.minimessage.ParsingException;
 import net.kyori.adventure.text.minimessage.internal.TagInternals;
@@ -126,19 +128,7 @@ public interface TagResolver {
     }
     requireNonNull(handler, "handler");
 
-    return new TagResolver() {
-      @Override
-      public @Nullable Tag resolve(final @NotNull String name, final @NotNull ArgumentQueue arguments, final @NotNull Context ctx) throws ParsingException {
-        if (!names.contains(name)) return null;
-
-        return handler.apply(arguments, ctx);
-      }
-
-      @Override
-      public boolean has(final @NotNull String name) {
-        return names.contains(name);
-      }
-    };
+    return new NamedTagResolver(Collections.unmodifiableSet(ownNames), handler);
   }
 
   /**
@@ -188,15 +178,18 @@ public interface TagResolver {
    *
    * <p>Due to the complexity of handling lookups for tags with arguments, the built-in cache does not support anything but tags without arguments.</p>
    *
+   * <p>The returned resolver is a {@link Caching} resolver with default limits, and is safe to share between threads.</p>
+   *
    * @param resolver the resolver
    * @return the caching tag resolver
+   * @see Caching#builder(WithoutArguments)
    * @since 4.10.0
    */
   static @NotNull TagResolver caching(final TagResolver.@NotNull WithoutArguments resolver) {
     if (resolver instanceof CachingTagResolver) {
       return resolver;
     } else {
-      return new CachingTagResolver(Objects.requireNonNull(resolver, "resolver"));
+      return Caching.builder(resolver).build();
     }
   }
 
@@ -311,6 +304,92 @@ public interface TagResolver {
     }
   }
 
+  /**
+   * A tag resolver that caches the tags created by another resolver.
+   *
+   * <p>Caching resolvers are safe to share between threads, as long as the resolver they cache is.
+   * Tags and names without a tag are cached separately, so lookups of arbitrary unknown names cannot
+   * push known tags out of the cache.</p>
+   *
+   * @see TagResolver#caching(WithoutArguments)
+   * @since 4.13.0
+   */
+  @ApiStatus.NonExtendable
+  interface Caching extends TagResolver.WithoutArguments {
+    /**
+     * Creates a builder for a caching resolver.
+     *
+     * @param resolver the resolver to cache tags from
+     * @return a new builder
+     * @since 4.13.0
+     */
+    static @NotNull Builder builder(final TagResolver.@NotNull WithoutArguments resolver) {
+      return new CachingTagResolver.BuilderImpl(Objects.requireNonNull(resolver, "resolver"));
+    }
+
+    /**
+     * Gets the number of lookups answered from the cache.
+     *
+     * @return the number of hits
+     * @since 4.13.0
+     */
+    long hits();
+
+    /**
+     * Gets the number of lookups that had to query the cached resolver.
+     *
+     * @return the number of misses
+     * @since 4.13.0
+     */
+    long misses();
+
+    /**
+     * Discards every cached entry.
+     *
+     * @since 4.13.0
+     */
+    void invalidateAll();
+
+    /**
+     * A builder for caching resolvers.
+     *
+     * @since 4.13.0
+     */
+    interface Builder extends AbstractBuilder<Caching> {
+      /**
+       * Sets the maximum number of tags to cache.
+       *
+       * <p>Once full, the cache is emptied before the next tag is cached.</p>
+       *
+       * @param maximumSize the maximum number of tags, defaults to {@code 1024}
+       * @return this builder
+       * @since 4.13.0
+       */
+      @NotNull Builder maximumSize(final int maximumSize);
+
+      /**
+       * Sets the maximum number of names without a tag to cache.
+       *
+       * <p>Once full, the cache of these names is emptied before the next one is cached.
+       * A value of {@code 0} disables caching names without a tag.</p>
+       *
+       * @param maximumNegativeSize the maximum number of names, defaults to {@code 256}
+       * @return this builder
+       * @since 4.13.0
+       */
+      @NotNull Builder maximumNegativeSize(final int maximumNegativeSize);
+
+      /**
+       * Sets how long entries stay cached after they are added.
+       *
+       * @param duration the duration, or {@code null} for entries not to expire, the default
+       * @return this builder
+       * @since 4.13.0
+       */
+      @NotNull Builder expireAfterWrite(final @Nullable Duration duration);
+    }
+  }
+
   /**
    * A builder to gradually construct tag resolvers.
    *
@@ -59,9 +59,8 @@ final class TagResolverBuilderImpl implements TagResolver.Builder {
 
   @Override
   public TagResolver.@NotNull Builder resolver(final @NotNull TagResolver resolver) {
-    if (resolver instanceof SequentialTagResolver) {
-      this.resolvers(((SequentialTagResolver) resolver).resolvers, false);
-    } else if (!this.consumePotentialMappable(resolver)) {
+    // sequential resolvers are kept whole rather than flattened, so their name index is shared by every combination they are part of
+    if (!this.consumePotentialMappable(resolver)) {
       this.popMap();
       this.resolvers.add(requireNonNull(resolver, "resolver"));
     }
@@ -70,20 +69,9 @@ final class TagResolverBuilderImpl implements TagResolver.Builder {
 
   @Override
   public TagResolver.@NotNull Builder resolvers(final @NotNull TagResolver @NotNull... resolvers) {
-    return this.resolvers(resolvers, true);
-  }
-
-  private TagResolver.@NotNull Builder resolvers(final @NotNull TagResolver @NotNull[] resolvers, final boolean forwards) {
     boolean popped = false;
-    requireNonNull(resolvers, "resolvers");
-    if (forwards) {
-      for (final TagResolver resolver : resolvers) {
-        popped = this.single(resolver, popped);
-      }
-    } else {
-      for (int i = resolvers.length - 1; i >= 0; i--) {
-        popped = this.single(resolvers[i], popped);
-      }
+    for (final TagResolver resolver : requireNonNull(resolvers, "resolvers")) {
+      popped = this.single(resolver, popped);
     }
     return this;
   }
@@ -98,9 +86,7 @@ final class TagResolverBuilderImpl implements TagResolver.Builder {
   }
 
   private boolean single(final TagResolver resolver, final boolean popped) {
-    if (resolver instanceof SequentialTagResolver) {
-      this.resolvers(((SequentialTagResolver) resolver).resolvers, false);
-    } else if (!this.consumePotentialMappable(resolver)) {
+    if (!this.consumePotentialMappable(resolver)) {
       if (!popped) {
         this.popMap();
       }
@@ -30,6 +30,7 @@ import net.kyori.adventure.internal.Internals;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.TextComponent;
 import net.kyori.adventure.text.flattener.ComponentFlattener;
+import net.kyori.adventure.text.format.Style;
 import net.kyori.adventure.text.format.TextColor;
 import net.kyori.adventure.text.minimessage.internal.parser.node.TagNode;
 import net.kyori.adventure.text.minimessage.internal.parser.node.ValueNode;
@@ -60,14 +61,28 @@ abstract class AbstractColorChangingTag implements Modifying, Examinable {
     .unknownMapper(x -> "_") // every unknown component gets a single colour
     .build();
 
+  private final ColorQuantization quantization;
   private boolean visited;
   private int size = 0;
   private int disableApplyingColorDepth = -1;
 
+  // position of the active color, and the run of positions sharing an output color when quantizing to steps
+  private int position = 0;
+  private int step = -1;
+  private @Nullable TextColor stepColor;
+
+  protected AbstractColorChangingTag(final @NotNull ColorQuantization quantization) {
+    this.quantization = quantization;
+  }
+
   protected final int size() {
     return this.size;
   }
 
+  protected final @NotNull ColorQuantization quantization() {
+    return this.quantization;
+  }
+
   @Override
   public final void visit(final @NotNull Node current, final int depth) {
     if (this.visited) {
@@ -106,7 +121,7 @@ abstract class AbstractColorChangingTag implements Modifying, Examinable {
         final int len = content.codePointCount(0, content.length());
         for (int i = 0; i < len; i++) {
           // increment our color index
-          this.advanceColor();
+          this.advance();
         }
       }
       return current.children(Collections.emptyList());
@@ -119,25 +134,69 @@ abstract class AbstractColorChangingTag implements Modifying, Examinable {
 
       final TextComponent.Builder parent = Component.text();
 
+      if (this.quantization.coalesce()) {
+        this.applyCoalescing(parent, content, current.style());
+        return parent.build();
+      }
+
       // apply
       final int[] holder = new int[1];
       for (final PrimitiveIterator.OfInt it = content.codePoints().iterator(); it.hasNext();) {
         holder[0] = it.nextInt();
-        final Component comp = Component.text(new String(holder, 0, 1), current.style().color(this.color()));
-        this.advanceColor();
+        final Component comp = Component.text(new String(holder, 0, 1), current.style().color(this.outputColor()));
+        this.advance();
         parent.append(comp);
       }
 
       return parent.build();
     } else if (!(current instanceof TextComponent)) {
-      final Component ret = current.children(Collections.emptyList()).colorIfAbsent(this.color());
-      this.advanceColor();
+      final Component ret = current.children(Collections.emptyList()).colorIfAbsent(this.outputColor());
+      this.advance();
       return ret;
     }
 
     return Component.empty().mergeStyle(current);
   }
 
+  // one component per run of code points sharing an output color
+  private void applyCoalescing(final TextComponent.Builder parent, final String content, final Style style) {
+    final int length = content.length();
+    if (length == 0) return; // no run to close, and no color to give it
+    int runStart = 0;
+    TextColor runColor = null;
+    for (int i = 0; i < length; i += Character.charCount(content.codePointAt(i))) {
+      final TextColor color = this.outputColor();
+      this.advance();
+      if (runColor == null) {
+        runColor = color;
+      } else if (!runColor.equals(color)) {
+        parent.append(Component.text(content.substring(runStart, i), style.color(runColor)));
+        runStart = i;
+        runColor = color;
+      }
+    }
+    parent.append(Component.text(content.substring(runStart), style.color(runColor)));
+  }
+
+  private TextColor outputColor() {
+    final int steps = this.quantization.steps();
+    if (steps == 0 || this.size <= steps) {
+      return this.quantization.apply(this.color());
+    }
+
+    final int step = (int) ((long) this.position * steps / this.size);
+    if (step != this.step || this.stepColor == null) {
+      this.step = step;
+      this.stepColor = this.quantization.apply(this.color());
+    }
+    return this.stepColor;
+  }
+
+  private void advance() {
+    this.advanceColor();
+    this.position++;
+  }
+
   // The lifecycle
 
   protected abstract void init();
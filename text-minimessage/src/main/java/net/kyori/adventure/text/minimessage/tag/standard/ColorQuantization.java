@@ -0,0 +1,145 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2022 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text.minimessage.tag.standard;
+
+import java.util.Objects;
+import java.util.stream.Stream;
+import net.kyori.adventure.internal.Internals;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.TextColor;
+import net.kyori.examination.Examinable;
+import net.kyori.examination.ExaminableProperty;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Controls how tags that colour their content character by character, such as gradients and rainbows, output colours.
+ *
+ * <p>By default, every character is output as its own component. Any other option outputs adjacent characters
+ * of the same colour as a single component, giving smaller component trees for the same visual result.</p>
+ *
+ * @see StandardTags#gradient(ColorQuantization)
+ * @see StandardTags#rainbow(ColorQuantization)
+ * @since 4.13.0
+ */
+public final class ColorQuantization implements Examinable {
+  static final ColorQuantization NONE = new ColorQuantization(false, 0, false);
+  private static final ColorQuantization COALESCING = new ColorQuantization(true, 0, false);
+  private static final ColorQuantization NAMED = new ColorQuantization(true, 0, true);
+
+  private final boolean coalesce;
+  private final int steps;
+  private final boolean named;
+
+  private ColorQuantization(final boolean coalesce, final int steps, final boolean named) {
+    this.coalesce = coalesce;
+    this.steps = steps;
+    this.named = named;
+  }
+
+  /**
+   * Outputs every colour, joining adjacent characters of the same colour.
+   *
+   * @return the quantization
+   * @since 4.13.0
+   */
+  public static @NotNull ColorQuantization coalescing() {
+    return COALESCING;
+  }
+
+  /**
+   * Outputs at most {@code steps} colours across the content of a tag, joining adjacent characters of the same colour.
+   *
+   * <p>The content is split into {@code steps} runs of equal length, each using the colour of its first character.</p>
+   *
+   * @param steps the maximum number of colours
+   * @return the quantization
+   * @since 4.13.0
+   */
+  public static @NotNull ColorQuantization steps(final int steps) {
+    if (steps < 1) throw new IllegalArgumentException("steps must be positive, was " + steps);
+    return new ColorQuantization(true, steps, false);
+  }
+
+  /**
+   * Outputs the nearest {@link NamedTextColor} of every colour, joining adjacent characters of the same colour.
+   *
+   * <p>This is useful when the output is going to be downsampled anyway, such as for clients without RGB colour support.</p>
+   *
+   * @return the quantization
+   * @since 4.13.0
+   */
+  public static @NotNull ColorQuantization namedColors() {
+    return NAMED;
+  }
+
+  /**
+   * Creates a copy of this quantization that also outputs the nearest {@link NamedTextColor} of every colour.
+   *
+   * @return the quantization
+   * @since 4.13.0
+   */
+  public @NotNull ColorQuantization withNamedColors() {
+    return this.named ? this : new ColorQuantization(true, this.steps, true);
+  }
+
+  boolean coalesce() {
+    return this.coalesce;
+  }
+
+  int steps() {
+    return this.steps;
+  }
+
+  @NotNull TextColor apply(final @NotNull TextColor color) {
+    return this.named ? NamedTextColor.nearestTo(color) : color;
+  }
+
+  @Override
+  public @NotNull Stream<? extends ExaminableProperty> examinableProperties() {
+    return Stream.of(
+      ExaminableProperty.of("coalesce", this.coalesce),
+      ExaminableProperty.of("steps", this.steps),
+      ExaminableProperty.of("named", this.named)
+    );
+  }
+
+  @Override
+  public boolean equals(final @Nullable Object other) {
+    if (this == other) return true;
+    if (!(other instanceof ColorQuantization)) return false;
+    final ColorQuantization that = (ColorQuantization) other;
+    return this.coalesce == that.coalesce && this.steps == that.steps && this.named == that.named;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(this.coalesce, this.steps, this.named);
+  }
+
+  @Override
+  public @NotNull String toString() {
+    return Internals.toString(this);
+  }
+}
@@ -120,10 +120,11 @@ final class DecorationTag {
   }
 
   static void emit(final @NotNull String longName, final @NotNull String shortName, final TextDecoration.@NotNull State state, final @NotNull TokenEmitter emitter) {
+    final String name = emitter.abbreviatedNames() ? shortName : longName;
     if (state == State.FALSE) {
-      emitter.tag(REVERT + longName);
+      emitter.tag(REVERT + name);
     } else {
-      emitter.tag(longName);
+      emitter.tag(name);
     }
   }
 }
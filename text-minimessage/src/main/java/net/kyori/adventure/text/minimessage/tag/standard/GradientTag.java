@@ -48,7 +48,7 @@ import org.jetbrains.annotations.Nullable;
 final class GradientTag extends AbstractColorChangingTag {
   private static final String GRADIENT = "gradient";
 
-  static final TagResolver RESOLVER = TagResolver.resolver(GRADIENT, GradientTag::create);
+  static final TagResolver RESOLVER = resolver(ColorQuantization.NONE);
 
   private int index = 0;
   private int colorIndex = 0;
@@ -58,7 +58,11 @@ final class GradientTag extends AbstractColorChangingTag {
   private float phase;
   private final boolean negativePhase;
 
-  static Tag create(final ArgumentQueue args, final Context ctx) {
+  static TagResolver resolver(final ColorQuantization quantization) {
+    return TagResolver.resolver(GRADIENT, (args, ctx) -> create(args, ctx, quantization));
+  }
+
+  static Tag create(final ArgumentQueue args, final Context ctx, final ColorQuantization quantization) {
     float phase = 0;
     final List<TextColor> textColors;
     if (args.hasNext()) {
@@ -88,10 +92,11 @@ final class GradientTag extends AbstractColorChangingTag {
       textColors = Collections.emptyList();
     }
 
-    return new GradientTag(phase, textColors);
+    return new GradientTag(phase, textColors, quantization);
   }
 
-  private GradientTag(final float phase, final List<TextColor> colors) {
+  private GradientTag(final float phase, final List<TextColor> colors, final ColorQuantization quantization) {
+    super(quantization);
     if (phase < 0) {
       this.negativePhase = true;
       this.phase = 1 + phase;
@@ -149,7 +154,8 @@ final class GradientTag extends AbstractColorChangingTag {
   public @NotNull Stream<? extends ExaminableProperty> examinableProperties() {
     return Stream.of(
       ExaminableProperty.of("phase", this.phase),
-      ExaminableProperty.of("colors", this.colors)
+      ExaminableProperty.of("colors", this.colors),
+      ExaminableProperty.of("quantization", this.quantization())
     );
   }
 
@@ -161,13 +167,15 @@ final class GradientTag extends AbstractColorChangingTag {
     return this.index == that.index
       && this.colorIndex == that.colorIndex
       && ShadyPines.equals(that.factorStep, this.factorStep)
-      && this.phase == that.phase && Arrays.equals(this.colors, that.colors);
+      && this.phase == that.phase && Arrays.equals(this.colors, that.colors)
+      && this.quantization().equals(that.quantization());
   }
 
   @Override
   public int hashCode() {
     int result = Objects.hash(this.index, this.colorIndex, this.factorStep, this.phase);
     result = 31 * result + Arrays.hashCode(this.colors);
+    result = 31 * result + this.quantization().hashCode();
     return result;
   }
 }
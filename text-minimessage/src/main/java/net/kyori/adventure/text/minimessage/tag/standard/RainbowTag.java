@@ -44,7 +44,7 @@ final class RainbowTag extends AbstractColorChangingTag {
   private static final String REVERSE = "!";
   private static final String RAINBOW = "rainbow";
 
-  static final TagResolver RESOLVER = TagResolver.resolver(RAINBOW, RainbowTag::create);
+  static final TagResolver RESOLVER = resolver(ColorQuantization.NONE);
 
   private final boolean reversed;
   private final int phase;
@@ -55,7 +55,11 @@ final class RainbowTag extends AbstractColorChangingTag {
 
   private int colorIndex = 0;
 
-  static Tag create(final ArgumentQueue args, final Context ctx) {
+  static TagResolver resolver(final ColorQuantization quantization) {
+    return TagResolver.resolver(RAINBOW, (args, ctx) -> create(args, ctx, quantization));
+  }
+
+  static Tag create(final ArgumentQueue args, final Context ctx, final ColorQuantization quantization) {
     boolean reversed = false;
     int phase = 0;
 
@@ -74,10 +78,11 @@ final class RainbowTag extends AbstractColorChangingTag {
       }
     }
 
-    return new RainbowTag(reversed, phase);
+    return new RainbowTag(reversed, phase, quantization);
   }
 
-  private RainbowTag(final boolean reversed, final int phase) {
+  private RainbowTag(final boolean reversed, final int phase, final ColorQuantization quantization) {
+    super(quantization);
     this.reversed = reversed;
     this.phase = phase;
   }
@@ -116,7 +121,10 @@ final class RainbowTag extends AbstractColorChangingTag {
 
   @Override
   public @NotNull Stream<? extends ExaminableProperty> examinableProperties() {
-    return Stream.of(ExaminableProperty.of("phase", this.phase));
+    return Stream.of(
+      ExaminableProperty.of("phase", this.phase),
+      ExaminableProperty.of("quantization", this.quantization())
+    );
   }
 
   @Override
@@ -128,11 +136,12 @@ final class RainbowTag extends AbstractColorChangingTag {
       && ShadyPines.equals(that.center, this.center)
       && ShadyPines.equals(that.width, this.width)
       && ShadyPines.equals(that.frequency, this.frequency)
-      && this.phase == that.phase;
+      && this.phase == that.phase
+      && this.quantization().equals(that.quantization());
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(this.colorIndex, this.center, this.width, this.frequency, this.phase);
+    return Objects.hash(this.colorIndex, this.center, this.width, this.frequency, this.phase, this.quantization());
   }
 }
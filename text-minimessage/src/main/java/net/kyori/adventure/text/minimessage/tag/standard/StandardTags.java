@@ -177,6 +177,17 @@ public final class StandardTags {
     return GradientTag.RESOLVER;
   }
 
+  /**
+   * Get a resolver for the {@value GradientTag#GRADIENT} tag, outputting colours as described by {@code quantization}.
+   *
+   * @param quantization how the tag outputs colours
+   * @return a resolver for the {@value GradientTag#GRADIENT} tag
+   * @since 4.13.0
+   */
+  public static @NotNull TagResolver gradient(final @NotNull ColorQuantization quantization) {
+    return GradientTag.resolver(requireNonNull(quantization, "quantization"));
+  }
+
   /**
    * Get a resolver for the {@value RainbowTag#RAINBOW} tag.
    *
@@ -187,6 +198,17 @@ public final class StandardTags {
     return RainbowTag.RESOLVER;
   }
 
+  /**
+   * Get a resolver for the {@value RainbowTag#RAINBOW} tag, outputting colours as described by {@code quantization}.
+   *
+   * @param quantization how the tag outputs colours
+   * @return a resolver for the {@value RainbowTag#RAINBOW} tag
+   * @since 4.13.0
+   */
+  public static @NotNull TagResolver rainbow(final @NotNull ColorQuantization quantization) {
+    return RainbowTag.resolver(requireNonNull(quantization, "quantization"));
+  }
+
   /**
    * Get a resolver for the {@value TransitionTag#TRANSITION} tag.
    *
@@ -60,6 +60,7 @@ import static net.kyori.adventure.text.minimessage.tag.resolver.Placeholder.pars
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertIterableEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class MiniMessageParserTest extends AbstractTest {
@@ -136,6 +137,14 @@ public class MiniMessageParserTest extends AbstractTest {
     assertEquals(expected, PARSER.escapeTags(input, parsed("name", "you")));
   }
 
+  @Test
+  void testStripAndEscapeWithoutTags() {
+    final String input = "Hello, \\ world! §c > 3";
+    assertSame(input, PARSER.stripTags(input));
+    assertSame(input, PARSER.escapeTags(input));
+    assertSame(input, PARSER.escapeTags(input, parsed("name", "you")));
+  }
+
   @Test
   void testUnescape() {
     final String input = "<yellow>TEST\\<green> nested\\</green>Test";
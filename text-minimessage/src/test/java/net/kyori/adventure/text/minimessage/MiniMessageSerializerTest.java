@@ -23,8 +23,11 @@
  */
 package net.kyori.adventure.text.minimessage;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import net.kyori.adventure.key.Key;
 import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.event.HoverEvent;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.text.format.TextDecoration;
 import org.junit.jupiter.api.Test;
@@ -32,6 +35,7 @@ import org.junit.jupiter.api.Test;
 import static net.kyori.adventure.text.Component.text;
 import static net.kyori.adventure.text.format.Style.style;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class MiniMessageSerializerTest extends AbstractTest {
   @Test
@@ -78,4 +82,42 @@ public class MiniMessageSerializerTest extends AbstractTest {
     this.assertParsedEquals(component, expected);
   }
 
+  @Test
+  void testSerializeIntoOutput() throws IOException {
+    final Component component = text()
+      .append(text("bold", style(TextDecoration.BOLD)))
+      .append(text("hover").hoverEvent(HoverEvent.showText(text("inner", NamedTextColor.RED))))
+      .build();
+    final String expected = "<bold>bold</bold><hover:show_text:'<red>inner'>hover";
+
+    final StringBuilder sb = new StringBuilder("prefix ");
+    PARSER.serialize(sb, component);
+    PARSER.serialize(sb, component);
+    assertEquals("prefix " + expected + expected, sb.toString());
+
+    final StringWriter writer = new StringWriter();
+    PARSER.serialize(writer, component);
+    assertEquals(expected, writer.toString());
+  }
+
+  @Test
+  void testPreferredQuote() {
+    final MiniMessage serializer = MiniMessage.builder().preferredQuote('"').build();
+
+    assertEquals("<insert:\"hello world\">a", serializer.serialize(text("a").insertion("hello world")));
+    assertEquals("<insert:'say \"hi\"'>a", serializer.serialize(text("a").insertion("say \"hi\"")));
+    assertEquals("<insert:'hello world'>a", PARSER.serialize(text("a").insertion("hello world")));
+    assertThrows(IllegalArgumentException.class, () -> MiniMessage.builder().preferredQuote('`'));
+  }
+
+  @Test
+  void testAbbreviatedTagNames() {
+    final MiniMessage serializer = MiniMessage.builder().abbreviateTagNames(true).build();
+    final Component component = text()
+      .append(text("b+st", style(TextDecoration.BOLD, TextDecoration.STRIKETHROUGH)))
+      .append(text("not bold").decoration(TextDecoration.BOLD, false))
+      .build();
+
+    assertEquals("<st><b>b+st</b></st><!b>not bold", serializer.serialize(component));
+  }
 }
@@ -49,6 +49,9 @@ import static net.kyori.adventure.text.format.TextDecoration.BOLD;
 import static net.kyori.adventure.text.format.TextDecoration.UNDERLINED;
 import static net.kyori.adventure.text.minimessage.tag.resolver.Placeholder.component;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -437,6 +440,72 @@ public class MiniMessageTest extends AbstractTest {
     assertTrue(messages.contains("}"));
   }
 
+  @Test
+  void testCompiledTemplate() {
+    final MiniMessage miniMessage = MiniMessage.miniMessage();
+    final String input = "<yellow><name> <gradient:red:blue><bold><name></gradient> <hover:show_text:'<name>'>hover</hover> <lang:key:'<red>x'>";
+    final CompiledTemplate template = miniMessage.compile(input);
+
+    assertEquals(input, template.input());
+    for (final String name : Arrays.asList("kashike", "zml", "lucko")) {
+      final TagResolver resolver = component("name", text(name, GOLD));
+      assertEquals(miniMessage.deserialize(input, resolver), template.render(resolver));
+    }
+    assertEquals(miniMessage.deserialize(input), template.render());
+  }
+
+  @Test
+  void testCompiledTemplateOverridesTags() {
+    final MiniMessage miniMessage = MiniMessage.miniMessage();
+    final String input = "<red>a <gray>b</gray> <test>";
+    final CompiledTemplate template = miniMessage.compile(input);
+
+    final TagResolver overrideStatic = component("gray", text("GRAY"));
+    assertEquals(miniMessage.deserialize(input, overrideStatic), template.render(overrideStatic));
+
+    // pre-process tags change the message structure, falling back to a full parse
+    final TagResolver preProcess = Placeholder.parsed("test", "<blue>parsed");
+    assertEquals(miniMessage.deserialize(input, preProcess), template.render(preProcess));
+    assertEquals(text("a ", RED).append(text("b", GRAY)).append(text(" ")).append(text("parsed", BLUE)), template.render(preProcess));
+  }
+
+  @Test
+  void testParseCache() {
+    final MiniMessage miniMessage = MiniMessage.builder().parseCache(2).build();
+    final MiniMessage.ParseCache cache = miniMessage.parseCache();
+    assertNotNull(cache);
+    assertNull(MiniMessage.miniMessage().parseCache());
+
+    final Component first = miniMessage.deserialize("<red>hello");
+    assertSame(first, miniMessage.deserialize("<red>hello"));
+    assertSame(first, miniMessage.deserialize("<red>hello", TagResolver.empty()));
+    assertEquals(2, cache.hits());
+    assertEquals(1, cache.misses());
+
+    // extra resolvers bypass the cache entirely
+    assertEquals(text("hello", RED), miniMessage.deserialize("<red>hello", component("name", text("x"))));
+    assertEquals(2, cache.hits());
+    assertEquals(1, cache.misses());
+
+    // modifying tags are never cached, nor counted
+    miniMessage.deserialize("<rainbow>hello");
+    miniMessage.deserialize("<rainbow>hello");
+    assertEquals(1, cache.size());
+    assertEquals(2, cache.hits());
+    assertEquals(1, cache.misses());
+
+    // the least recently used input is evicted first
+    miniMessage.deserialize("<blue>a");
+    miniMessage.deserialize("<red>hello");
+    miniMessage.deserialize("<green>b");
+    assertTrue(cache.size() <= 2);
+    assertSame(first, miniMessage.deserialize("<red>hello"));
+
+    cache.invalidateAll();
+    assertEquals(0, cache.size());
+    assertThrows(IllegalArgumentException.class, () -> MiniMessage.builder().parseCache(-1));
+  }
+
   private static <T> boolean anyMatch(final Collection<T> items, final Predicate<T> test) {
     return items.stream()
       .anyMatch(test);
@@ -29,6 +29,8 @@ import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
 import org.junit.jupiter.api.Test;
 
 import static net.kyori.adventure.text.Component.text;
+import static net.kyori.adventure.text.format.NamedTextColor.BLUE;
+import static net.kyori.adventure.text.format.NamedTextColor.RED;
 import static net.kyori.adventure.text.minimessage.tag.resolver.Placeholder.parsed;
 
 public class PreProcessTagTest extends AbstractTest {
@@ -59,6 +61,19 @@ public class PreProcessTagTest extends AbstractTest {
     );
   }
 
+  @Test
+  void checkExpansionJoinsSurroundingText() {
+    final String input = "<<empty>red>Hello <nested>";
+    final Component expected = text("Hello ", RED).append(text("world", BLUE));
+
+    this.assertParsedEquals(
+      expected,
+      input,
+      parsed("empty", ""),
+      parsed("nested", "<<empty>blue>world")
+    );
+  }
+
   @Test
   void recursionTest() {
     final String input = "This is <recursion>!";
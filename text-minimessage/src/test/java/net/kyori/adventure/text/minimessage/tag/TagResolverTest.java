@@ -23,12 +23,15 @@
  */
 package net.kyori.adventure.text.minimessage.tag;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.text.minimessage.AbstractTest;
 import net.kyori.adventure.text.minimessage.Context;
+import net.kyori.adventure.text.minimessage.MiniMessage;
 import net.kyori.adventure.text.minimessage.ParsingException;
 import net.kyori.adventure.text.minimessage.tag.resolver.Placeholder;
 import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
@@ -40,8 +43,11 @@ import static net.kyori.adventure.text.Component.text;
 import static net.kyori.adventure.text.format.TextColor.color;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 class TagResolverTest {
@@ -86,6 +92,121 @@ class TagResolverTest {
     assertEquals("from resolver", ((PreProcess) resolveForTest(built, "overlapping")).value());
   }
 
+  @Test
+  void testNamedAndDynamicResolversKeepPriority() {
+    final TagResolver.WithoutArguments dynamic = key -> key.startsWith("dyn") || key.equals("shared") ? Tag.preProcessParsed("dynamic") : null;
+    final TagResolver built = TagResolver.builder()
+      .resolver(TagResolver.resolver("shared", (args, ctx) -> Tag.preProcessParsed("named first")))
+      .resolver(dynamic)
+      .resolver(TagResolver.resolver("named", (args, ctx) -> Tag.preProcessParsed("named")))
+      .resolver(TagResolver.standard())
+      .resolver(TagResolver.resolver("other", (args, ctx) -> Tag.preProcessParsed("other")))
+      .build();
+
+    // the dynamic resolver was added after the first named resolver, so it takes priority
+    assertEquals("dynamic", ((PreProcess) resolveForTest(built, "shared")).value());
+    assertEquals("dynamic", ((PreProcess) resolveForTest(built, "dynamic")).value());
+    assertEquals("named", ((PreProcess) resolveForTest(built, "named")).value());
+    assertEquals("other", ((PreProcess) resolveForTest(built, "other")).value());
+    assertNotNull(resolveForTest(built, "bold"));
+    assertNotNull(resolveForTest(built, "#123456"));
+
+    assertTrue(built.has("named"));
+    assertTrue(built.has("dynamic"));
+    assertTrue(built.has("red"));
+    assertFalse(built.has("missing"));
+  }
+
+  @Test
+  void testCachingResolverBounds() {
+    final AtomicInteger queries = new AtomicInteger();
+    final TagResolver.Caching caching = TagResolver.Caching.builder(key -> {
+        queries.incrementAndGet();
+        return key.startsWith("known") ? Tag.preProcessParsed(key) : null;
+      })
+      .maximumSize(2)
+      .maximumNegativeSize(1)
+      .build();
+
+    assertEquals("known1", ((PreProcess) resolveForTest(caching, "known1")).value());
+    assertEquals("known1", ((PreProcess) resolveForTest(caching, "known1")).value());
+    assertEquals(1, caching.hits());
+    assertEquals(1, caching.misses());
+
+    // unknown names have their own limit, and do not evict known tags
+    assertNull(caching.resolve("unknown1"));
+    assertNull(caching.resolve("unknown1"));
+    assertNull(caching.resolve("unknown2"));
+    assertNull(caching.resolve("unknown1"));
+    assertNotNull(caching.resolve("known1"));
+    assertEquals(3, caching.hits());
+    assertEquals(4, queries.get());
+
+    caching.invalidateAll();
+    assertTrue(caching.has("known1"));
+    assertEquals(5, queries.get());
+  }
+
+  @Test
+  void testCachingResolverExpiry() {
+    final AtomicInteger queries = new AtomicInteger();
+    final TagResolver.Caching caching = TagResolver.Caching.builder(key -> {
+        queries.incrementAndGet();
+        return Tag.preProcessParsed(key);
+      })
+      .expireAfterWrite(Duration.ZERO)
+      .build();
+
+    assertTrue(caching.has("tag"));
+    assertTrue(caching.has("tag"));
+    assertEquals(2, queries.get());
+    assertEquals(0, caching.hits());
+  }
+
+  @Test
+  void testCachingResolverExpiredTagBecomesAbsent() throws InterruptedException {
+    final AtomicInteger queries = new AtomicInteger();
+    final TagResolver.Caching caching = TagResolver.Caching.builder(key -> queries.getAndIncrement() == 0 ? Tag.preProcessParsed(key) : null)
+      .expireAfterWrite(Duration.ofMillis(200))
+      .build();
+
+    assertNotNull(caching.resolve("tag"));
+    Thread.sleep(300);
+    // the expired tag is dropped, and the name is remembered as absent from then on
+    assertNull(caching.resolve("tag"));
+    assertNull(caching.resolve("tag"));
+    assertEquals(2, queries.get());
+    assertEquals(1, caching.hits());
+  }
+
+  @Test
+  void testCachingResolverVeryLongExpiry() {
+    final TagResolver.Caching caching = TagResolver.Caching.builder(Tag::preProcessParsed)
+      .expireAfterWrite(Duration.ofSeconds(Long.MAX_VALUE))
+      .build();
+
+    assertNotNull(caching.resolve("tag"));
+    assertNotNull(caching.resolve("tag"));
+    assertEquals(1, caching.hits());
+  }
+
+  @Test
+  void testCachingResolverCountsOncePerTag() {
+    final AtomicInteger queries = new AtomicInteger();
+    final TagResolver.Caching caching = TagResolver.Caching.builder(key -> {
+        queries.incrementAndGet();
+        return key.equals("known") ? Tag.selfClosingInserting(text("!")) : null;
+      })
+      .build();
+
+    // the parser checks each tag before resolving it, and only resolving is counted:
+    // both tags are resolved once while looking for pre-process tags and once while building the tree
+    assertEquals(text("!!"), MiniMessage.miniMessage().deserialize("<known><known>", caching).compact());
+    assertEquals(1, queries.get());
+    assertEquals(1, caching.misses());
+    assertEquals(3, caching.hits());
+  }
+
   @Test
   void testContextParseOne() {
     final Context ctx = AbstractTest.dummyContext("dummy text");
@@ -27,6 +27,7 @@ import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.text.format.TextDecoration;
 import net.kyori.adventure.text.minimessage.AbstractTest;
+import net.kyori.adventure.text.minimessage.MiniMessage;
 import net.kyori.adventure.text.minimessage.tag.resolver.Placeholder;
 import org.junit.jupiter.api.Test;
 
@@ -48,6 +49,26 @@ import static net.kyori.adventure.text.format.TextDecoration.BOLD;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 
 class GradientTagTest extends AbstractTest {
+  private static final MiniMessage QUANTIZED_STEPS = MiniMessage.builder()
+    .editTags(tags -> tags.resolver(StandardTags.gradient(ColorQuantization.steps(2))))
+    .build();
+  private static final MiniMessage QUANTIZED_NAMED = MiniMessage.builder()
+    .editTags(tags -> tags.resolver(StandardTags.gradient(ColorQuantization.namedColors())))
+    .build();
+
+  @Test
+  void testGradientSteps() {
+    final String input = "<gradient:red:blue>abcdefgh";
+
+    this.assertSerializedEquals("<red>abcd</red><#aa55aa>efgh", QUANTIZED_STEPS.deserialize(input));
+  }
+
+  @Test
+  void testGradientNamedColors() {
+    final String input = "<gradient:red:blue>abcdefgh";
+
+    this.assertSerializedEquals("<red>abc</red><light_purple>def</light_purple><blue>gh", QUANTIZED_NAMED.deserialize(input));
+  }
 
   @Test
   void testGradient() {
@@ -41,6 +41,16 @@ import static net.kyori.adventure.text.minimessage.tag.resolver.Placeholder.comp
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 class RainbowTagTest extends AbstractTest {
+  @Test
+  void testRainbowSteps() {
+    final MiniMessage miniMessage = MiniMessage.builder()
+      .editTags(tags -> tags.resolver(StandardTags.rainbow(ColorQuantization.steps(3))))
+      .build();
+
+    this.assertSerializedEquals("<#f3801f>abc</#f3801f><#18ed68>def</#18ed68><#7412f7>ghi", miniMessage.deserialize("<rainbow>abcdefghi"));
+    this.assertSerializedEquals("<#6bfa16>abc</#6bfa16><#f62577>def</#f62577><#1d60f1>ghi", miniMessage.deserialize("<rainbow:!2>abcdefghi"));
+  }
+
   @Test
   void testSerializeRainbow() {
     final String expected = "<rainbow>test</rainbow> >> reeeeeeeee";
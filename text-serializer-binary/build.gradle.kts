@@ -0,0 +1,12 @@
+plugins {
+  id("adventure.common-conventions")
+}
+
+dependencies {
+  api(projects.adventureApi)
+  testImplementation(projects.adventureTextSerializerGson)
+  testImplementation(testFixtures(projects.adventureApi))
+  annotationProcessor(projects.adventureAnnotationProcessors)
+}
+
+applyJarMetadata("net.kyori.adventure.text.serializer.binary")
@@ -0,0 +1,114 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2022 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text.serializer.binary;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.serializer.ComponentSerializer;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A compact binary component serializer.
+ *
+ * <p>The format is meant for exchanging components between services, rather than for storage
+ * or for clients. Lengths and counts are written as variable-length integers, component types
+ * as a single byte, and the decorations of a style as a single integer. Strings, keys and
+ * styles are only written in full the first time they appear in a component, later uses refer
+ * back to them.</p>
+ *
+ * <p>Strings are encoded as UTF-8, so unpaired surrogates do not survive a round trip.</p>
+ *
+ * @since 4.13.0
+ */
+public interface BinaryComponentSerializer extends ComponentSerializer<Component, Component, byte[]> {
+  /**
+   * Gets a component serializer for binary serialization and deserialization.
+   *
+   * @return a binary component serializer
+   * @since 4.13.0
+   */
+  static @NotNull BinaryComponentSerializer binary() {
+    return BinaryComponentSerializerImpl.INSTANCE;
+  }
+
+  /**
+   * Deserialize a component from binary data.
+   *
+   * @param input the binary data
+   * @return the component
+   * @throws IllegalArgumentException if the data is malformed, or has trailing bytes
+   * @since 4.13.0
+   */
+  @Override
+  @NotNull Component deserialize(final byte @NotNull [] input);
+
+  /**
+   * Deserialize a component from a stream.
+   *
+   * <p>Exactly the bytes of one component are read, so several components can be read from the same stream in turn.
+   * The stream is read a byte at a time, and should be buffered by the caller where that matters.</p>
+   *
+   * @param input the stream to read from
+   * @return the component
+   * @throws IOException if the stream could not be read, or the data is malformed
+   * @since 4.13.0
+   */
+  @NotNull Component deserialize(final @NotNull InputStream input) throws IOException;
+
+  /**
+   * Serialize a component to binary data.
+   *
+   * @param component the component
+   * @return the binary data
+   * @since 4.13.0
+   */
+  @Override
+  byte @NotNull [] serialize(final @NotNull Component component);
+
+  /**
+   * Serialize a component into a stream.
+   *
+   * <p>The stream is not flushed or closed.</p>
+   *
+   * @param component the component
+   * @param output the stream to write to
+   * @throws IOException if the stream could not be written to
+   * @since 4.13.0
+   */
+  void serialize(final @NotNull Component component, final @NotNull OutputStream output) throws IOException;
+
+  /**
+   * Estimates the serialized size of a component, without serializing it.
+   *
+   * <p>The estimate is an upper bound, as it assumes that nothing is referred back to
+   * and that every character takes the most space it can.</p>
+   *
+   * @param component the component
+   * @return the maximum size of the component in bytes
+   * @since 4.13.0
+   */
+  int estimateSize(final @NotNull Component component);
+}
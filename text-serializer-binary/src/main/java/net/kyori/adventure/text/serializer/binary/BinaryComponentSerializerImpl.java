@@ -0,0 +1,238 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2022 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text.serializer.binary;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import net.kyori.adventure.key.Key;
+import net.kyori.adventure.nbt.api.BinaryTagHolder;
+import net.kyori.adventure.text.BlockNBTComponent;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.EntityNBTComponent;
+import net.kyori.adventure.text.KeybindComponent;
+import net.kyori.adventure.text.NBTComponent;
+import net.kyori.adventure.text.ScoreComponent;
+import net.kyori.adventure.text.SelectorComponent;
+import net.kyori.adventure.text.StorageNBTComponent;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.TranslatableComponent;
+import net.kyori.adventure.text.event.ClickEvent;
+import net.kyori.adventure.text.event.HoverEvent;
+import net.kyori.adventure.text.format.Style;
+import net.kyori.adventure.text.format.TextDecoration;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+final class BinaryComponentSerializerImpl implements BinaryComponentSerializer {
+  static final BinaryComponentSerializer INSTANCE = new BinaryComponentSerializerImpl();
+
+  static final int FORMAT_VERSION = 1;
+
+  // component types
+  static final int TEXT = 0;
+  static final int TRANSLATABLE = 1;
+  static final int SCORE = 2;
+  static final int SELECTOR = 3;
+  static final int KEYBIND = 4;
+  static final int BLOCK_NBT = 5;
+  static final int ENTITY_NBT = 6;
+  static final int STORAGE_NBT = 7;
+
+  // style references, anything above refers back to a style by its index
+  static final int STYLE_EMPTY = 0;
+  static final int STYLE_INLINE = 1;
+  static final int STYLE_REFERENCE = 2;
+
+  // style fields present
+  static final int STYLE_COLOR = 1;
+  static final int STYLE_FONT = 1 << 1;
+  static final int STYLE_INSERTION = 1 << 2;
+  static final int STYLE_CLICK_EVENT = 1 << 3;
+  static final int STYLE_HOVER_EVENT = 1 << 4;
+
+  // The order of these is part of the format, so new constants are only ever appended
+  @SuppressWarnings("checkstyle:NoWhitespaceAfter")
+  static final TextDecoration[] DECORATIONS = {
+    TextDecoration.OBFUSCATED,
+    TextDecoration.BOLD,
+    TextDecoration.STRIKETHROUGH,
+    TextDecoration.UNDERLINED,
+    TextDecoration.ITALIC
+  };
+  @SuppressWarnings("checkstyle:NoWhitespaceAfter")
+  static final ClickEvent.Action[] CLICK_ACTIONS = {
+    ClickEvent.Action.OPEN_URL,
+    ClickEvent.Action.OPEN_FILE,
+    ClickEvent.Action.RUN_COMMAND,
+    ClickEvent.Action.SUGGEST_COMMAND,
+    ClickEvent.Action.CHANGE_PAGE,
+    ClickEvent.Action.COPY_TO_CLIPBOARD
+  };
+  @SuppressWarnings("checkstyle:NoWhitespaceAfter")
+  static final HoverEvent.Action<?>[] HOVER_ACTIONS = {
+    HoverEvent.Action.SHOW_TEXT,
+    HoverEvent.Action.SHOW_ITEM,
+    HoverEvent.Action.SHOW_ENTITY
+  };
+
+  static {
+    // Ensure coverage of decorations and click actions
+    final Set<TextDecoration> knownDecorations = EnumSet.allOf(TextDecoration.class);
+    for (final TextDecoration decoration : DECORATIONS) {
+      knownDecorations.remove(decoration);
+    }
+    if (!knownDecorations.isEmpty()) {
+      throw new IllegalStateException("Binary serializer is missing some text decorations: " + knownDecorations);
+    }
+    final Set<ClickEvent.Action> knownClickActions = EnumSet.allOf(ClickEvent.Action.class);
+    for (final ClickEvent.Action action : CLICK_ACTIONS) {
+      knownClickActions.remove(action);
+    }
+    if (!knownClickActions.isEmpty()) {
+      throw new IllegalStateException("Binary serializer is missing some click actions: " + knownClickActions);
+    }
+  }
+
+  // the most bytes a variable-length int takes
+  private static final int MAX_VAR_INT_SIZE = 5;
+
+  private BinaryComponentSerializerImpl() {
+  }
+
+  @Override
+  public @NotNull Component deserialize(final byte @NotNull [] input) {
+    try {
+      return new ComponentDecoder(input).readRoot();
+    } catch (final IOException ex) {
+      throw new IllegalArgumentException("Malformed component data", ex);
+    }
+  }
+
+  @Override
+  public @NotNull Component deserialize(final @NotNull InputStream input) throws IOException {
+    return new ComponentDecoder(input).readRoot();
+  }
+
+  @Override
+  public byte @NotNull [] serialize(final @NotNull Component component) {
+    final ComponentEncoder encoder = new ComponentEncoder(null);
+    try {
+      encoder.writeRoot(component);
+    } catch (final IOException ex) {
+      throw new IllegalStateException(ex); // there is no stream to fail
+    }
+    return encoder.toByteArray();
+  }
+
+  @Override
+  public void serialize(final @NotNull Component component, final @NotNull OutputStream output) throws IOException {
+    new ComponentEncoder(output).writeRoot(component);
+  }
+
+  @Override
+  public int estimateSize(final @NotNull Component component) {
+    return 1 + estimateComponent(component);
+  }
+
+  private static int estimateComponent(final @Nullable Component component) {
+    if (component == null) return 0;
+    int size = 1 + estimateStyle(component.style());
+    if (component instanceof TextComponent) {
+      size += estimateString(((TextComponent) component).content());
+    } else if (component instanceof TranslatableComponent) {
+      final TranslatableComponent translatable = (TranslatableComponent) component;
+      size += estimateString(translatable.key()) + estimateComponents(translatable.args());
+    } else if (component instanceof ScoreComponent) {
+      final ScoreComponent score = (ScoreComponent) component;
+      size += estimateString(score.name()) + estimateString(score.objective()) + 1 + estimateString(score.value());
+    } else if (component instanceof SelectorComponent) {
+      final SelectorComponent selector = (SelectorComponent) component;
+      size += estimateString(selector.pattern()) + 1 + estimateComponent(selector.separator());
+    } else if (component instanceof KeybindComponent) {
+      size += estimateString(((KeybindComponent) component).keybind());
+    } else if (component instanceof NBTComponent) {
+      final NBTComponent<?, ?> nbt = (NBTComponent<?, ?>) component;
+      size += estimateString(nbt.nbtPath()) + 1 + 1 + estimateComponent(nbt.separator());
+      if (component instanceof BlockNBTComponent) {
+        size += estimateString(((BlockNBTComponent) component).pos().asString());
+      } else if (component instanceof EntityNBTComponent) {
+        size += estimateString(((EntityNBTComponent) component).selector());
+      } else if (component instanceof StorageNBTComponent) {
+        size += estimateKey(((StorageNBTComponent) component).storage());
+      } else {
+        throw ComponentEncoder.notSureHowToSerialize(component);
+      }
+    } else {
+      throw ComponentEncoder.notSureHowToSerialize(component);
+    }
+    return size + estimateComponents(component.children());
+  }
+
+  private static int estimateComponents(final List<Component> components) {
+    int size = MAX_VAR_INT_SIZE;
+    for (final Component component : components) {
+      size += estimateComponent(component);
+    }
+    return size;
+  }
+
+  private static int estimateStyle(final Style style) {
+    if (style.isEmpty()) return 1;
+    int size = 1 + MAX_VAR_INT_SIZE + MAX_VAR_INT_SIZE + MAX_VAR_INT_SIZE;
+    size += estimateKey(style.font()) + estimateString(style.insertion());
+    final @Nullable ClickEvent clickEvent = style.clickEvent();
+    if (clickEvent != null) {
+      size += 1 + estimateString(clickEvent.value());
+    }
+    final @Nullable HoverEvent<?> hoverEvent = style.hoverEvent();
+    if (hoverEvent != null) {
+      size += 1;
+      final Object value = hoverEvent.value();
+      if (value instanceof Component) {
+        size += estimateComponent((Component) value);
+      } else if (value instanceof HoverEvent.ShowItem) {
+        final HoverEvent.ShowItem item = (HoverEvent.ShowItem) value;
+        final @Nullable BinaryTagHolder nbt = item.nbt();
+        size += estimateKey(item.item()) + MAX_VAR_INT_SIZE + 1 + (nbt == null ? 0 : estimateString(nbt.string()));
+      } else if (value instanceof HoverEvent.ShowEntity) {
+        final HoverEvent.ShowEntity entity = (HoverEvent.ShowEntity) value;
+        size += estimateKey(entity.type()) + Long.BYTES * 2 + 1 + estimateComponent(entity.name());
+      }
+    }
+    return size;
+  }
+
+  private static int estimateKey(final @Nullable Key key) {
+    return key == null ? 0 : MAX_VAR_INT_SIZE + 3 * (key.namespace().length() + 1 + key.value().length());
+  }
+
+  private static int estimateString(final @Nullable String string) {
+    // a char takes at most three bytes in UTF-8, as a surrogate pair takes four
+    return string == null ? 0 : MAX_VAR_INT_SIZE + 3 * string.length();
+  }
+}
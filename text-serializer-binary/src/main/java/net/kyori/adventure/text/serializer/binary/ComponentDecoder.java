@@ -0,0 +1,312 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2022 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text.serializer.binary;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import net.kyori.adventure.key.InvalidKeyException;
+import net.kyori.adventure.key.Key;
+import net.kyori.adventure.nbt.api.BinaryTagHolder;
+import net.kyori.adventure.text.BlockNBTComponent;
+import net.kyori.adventure.text.BuildableComponent;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.ComponentBuilder;
+import net.kyori.adventure.text.NBTComponentBuilder;
+import net.kyori.adventure.text.event.ClickEvent;
+import net.kyori.adventure.text.event.HoverEvent;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.Style;
+import net.kyori.adventure.text.format.TextColor;
+import org.jetbrains.annotations.Nullable;
+
+import static net.kyori.adventure.text.serializer.binary.BinaryComponentSerializerImpl.BLOCK_NBT;
+import static net.kyori.adventure.text.serializer.binary.BinaryComponentSerializerImpl.CLICK_ACTIONS;
+import static net.kyori.adventure.text.serializer.binary.BinaryComponentSerializerImpl.DECORATIONS;
+import static net.kyori.adventure.text.serializer.binary.BinaryComponentSerializerImpl.ENTITY_NBT;
+import static net.kyori.adventure.text.serializer.binary.BinaryComponentSerializerImpl.FORMAT_VERSION;
+import static net.kyori.adventure.text.serializer.binary.BinaryComponentSerializerImpl.HOVER_ACTIONS;
+import static net.kyori.adventure.text.serializer.binary.BinaryComponentSerializerImpl.KEYBIND;
+import static net.kyori.adventure.text.serializer.binary.BinaryComponentSerializerImpl.SCORE;
+import static net.kyori.adventure.text.serializer.binary.BinaryComponentSerializerImpl.SELECTOR;
+import static net.kyori.adventure.text.serializer.binary.BinaryComponentSerializerImpl.STORAGE_NBT;
+import static net.kyori.adventure.text.serializer.binary.BinaryComponentSerializerImpl.STYLE_CLICK_EVENT;
+import static net.kyori.adventure.text.serializer.binary.BinaryComponentSerializerImpl.STYLE_COLOR;
+import static net.kyori.adventure.text.serializer.binary.BinaryComponentSerializerImpl.STYLE_EMPTY;
+import static net.kyori.adventure.text.serializer.binary.BinaryComponentSerializerImpl.STYLE_FONT;
+import static net.kyori.adventure.text.serializer.binary.BinaryComponentSerializerImpl.STYLE_HOVER_EVENT;
+import static net.kyori.adventure.text.serializer.binary.BinaryComponentSerializerImpl.STYLE_INLINE;
+import static net.kyori.adventure.text.serializer.binary.BinaryComponentSerializerImpl.STYLE_INSERTION;
+import static net.kyori.adventure.text.serializer.binary.BinaryComponentSerializerImpl.STYLE_REFERENCE;
+import static net.kyori.adventure.text.serializer.binary.BinaryComponentSerializerImpl.TEXT;
+import static net.kyori.adventure.text.serializer.binary.BinaryComponentSerializerImpl.TRANSLATABLE;
+
+/**
+ * Reads a single component in the binary format.
+ *
+ * <p>Input is either a byte array, which must hold exactly one component, or a stream,
+ * which is read a byte at a time so that nothing past the component is consumed.</p>
+ */
+final class ComponentDecoder {
+  // strings read from a stream start in a buffer of at most this size, which only grows as bytes arrive,
+  // so a corrupt length is never allocated up front
+  private static final int STREAM_CHUNK_SIZE = 8192;
+
+  private final @Nullable InputStream in;
+  private final byte[] bytes;
+  private int position;
+  // strings and styles already read, to resolve references back to them
+  private final List<String> strings = new ArrayList<>();
+  private final List<Style> styles = new ArrayList<>();
+
+  ComponentDecoder(final byte[] bytes) {
+    this.in = null;
+    this.bytes = bytes;
+  }
+
+  ComponentDecoder(final InputStream in) {
+    this.in = in;
+    this.bytes = new byte[0];
+  }
+
+  Component readRoot() throws IOException {
+    final int version = this.readByte();
+    if (version != FORMAT_VERSION) {
+      throw new IOException("Unsupported component format version " + version);
+    }
+    final Component component = this.readComponent();
+    if (this.in == null && this.position != this.bytes.length) {
+      throw new IOException((this.bytes.length - this.position) + " trailing bytes after component");
+    }
+    return component;
+  }
+
+  private BuildableComponent<?, ?> readComponent() throws IOException {
+    final int type = this.readByte();
+    final Style style = this.readStyle();
+    final ComponentBuilder<?, ?> builder;
+    switch (type) {
+      case TEXT:
+        builder = Component.text().content(this.readString());
+        break;
+      case TRANSLATABLE:
+        builder = Component.translatable().key(this.readString()).args(this.readComponents());
+        break;
+      case SCORE:
+        builder = Component.score().name(this.readString()).objective(this.readString()).value(this.readNullableString());
+        break;
+      case SELECTOR:
+        builder = Component.selector().pattern(this.readString()).separator(this.readNullableComponent());
+        break;
+      case KEYBIND:
+        builder = Component.keybind().keybind(this.readString());
+        break;
+      case BLOCK_NBT:
+        builder = this.readNbt(Component.blockNBT()).pos(this.readPos());
+        break;
+      case ENTITY_NBT:
+        builder = this.readNbt(Component.entityNBT()).selector(this.readString());
+        break;
+      case STORAGE_NBT:
+        builder = this.readNbt(Component.storageNBT()).storage(this.readKey());
+        break;
+      default:
+        throw new IOException("Unknown component type " + type);
+    }
+    return builder.style(style).append(this.readComponents()).build();
+  }
+
+  private <B extends NBTComponentBuilder<?, B>> B readNbt(final B builder) throws IOException {
+    return builder
+      .nbtPath(this.readString())
+      .interpret(this.readBoolean())
+      .separator(this.readNullableComponent());
+  }
+
+  private List<Component> readComponents() throws IOException {
+    final int size = this.readVarInt();
+    if (size < 0) throw new IOException("Invalid component count " + size);
+    if (size == 0) return Collections.emptyList();
+    final List<Component> components = new ArrayList<>(Math.min(size, 64));
+    for (int i = 0; i < size; i++) {
+      components.add(this.readComponent());
+    }
+    return components;
+  }
+
+  private @Nullable Component readNullableComponent() throws IOException {
+    return this.readBoolean() ? this.readComponent() : null;
+  }
+
+  private Style readStyle() throws IOException {
+    final int reference = this.readVarInt();
+    if (reference == STYLE_EMPTY) {
+      return Style.empty();
+    } else if (reference != STYLE_INLINE) {
+      final int index = reference - STYLE_REFERENCE;
+      if (index < 0 || index >= this.styles.size()) throw new IOException("Unknown style reference " + index);
+      return this.styles.get(index);
+    }
+
+    final int fields = this.readVarInt();
+    final int decorations = this.readVarInt();
+    final Style.Builder style = Style.style();
+    for (int i = 0; i < DECORATIONS.length; i++) {
+      final int state = (decorations >> (i << 1)) & 3;
+      if (state != 0) {
+        style.decoration(DECORATIONS[i], state == 2);
+      }
+    }
+    if ((fields & STYLE_COLOR) != 0) {
+      final int color = this.readVarInt();
+      final int value = color >>> 1;
+      final @Nullable NamedTextColor named = (color & 1) != 0 ? NamedTextColor.namedColor(value) : null;
+      style.color(named != null ? named : TextColor.color(value));
+    }
+    if ((fields & STYLE_FONT) != 0) {
+      style.font(this.readKey());
+    }
+    if ((fields & STYLE_INSERTION) != 0) {
+      style.insertion(this.readString());
+    }
+    if ((fields & STYLE_CLICK_EVENT) != 0) {
+      final int action = this.readByte();
+      if (action >= CLICK_ACTIONS.length) throw new IOException("Unknown click event action " + action);
+      style.clickEvent(ClickEvent.clickEvent(CLICK_ACTIONS[action], this.readString()));
+    }
+    if ((fields & STYLE_HOVER_EVENT) != 0) {
+      style.hoverEvent(this.readHoverEvent());
+    }
+    final Style built = style.build();
+    this.styles.add(built);
+    return built;
+  }
+
+  private HoverEvent<?> readHoverEvent() throws IOException {
+    final int action = this.readByte();
+    if (action >= HOVER_ACTIONS.length) throw new IOException("Unknown hover event action " + action);
+    if (HOVER_ACTIONS[action] == HoverEvent.Action.SHOW_TEXT) {
+      return HoverEvent.showText(this.readComponent());
+    } else if (HOVER_ACTIONS[action] == HoverEvent.Action.SHOW_ITEM) {
+      final Key item = this.readKey();
+      final int count = this.readVarInt();
+      final @Nullable String nbt = this.readNullableString();
+      return HoverEvent.showItem(item, count, nbt == null ? null : BinaryTagHolder.binaryTagHolder(nbt));
+    } else {
+      final Key type = this.readKey();
+      final UUID id = new UUID(this.readLong(), this.readLong());
+      return HoverEvent.showEntity(type, id, this.readNullableComponent());
+    }
+  }
+
+  private Key readKey() throws IOException {
+    final String key = this.readString();
+    try {
+      return Key.key(key);
+    } catch (final InvalidKeyException ex) {
+      throw new IOException("Invalid key " + key, ex);
+    }
+  }
+
+  private BlockNBTComponent.Pos readPos() throws IOException {
+    final String pos = this.readString();
+    try {
+      return BlockNBTComponent.Pos.fromString(pos);
+    } catch (final IllegalArgumentException ex) {
+      throw new IOException("Invalid block position " + pos, ex);
+    }
+  }
+
+  private @Nullable String readNullableString() throws IOException {
+    return this.readBoolean() ? this.readString() : null;
+  }
+
+  private String readString() throws IOException {
+    final int header = this.readVarInt();
+    if ((header & 1) != 0) {
+      final int index = header >>> 1;
+      if (index >= this.strings.size()) throw new IOException("Unknown string reference " + index);
+      return this.strings.get(index);
+    }
+
+    final int size = header >>> 1;
+    final String string;
+    if (this.in == null) {
+      if (size > this.bytes.length - this.position) throw new EOFException();
+      string = new String(this.bytes, this.position, size, StandardCharsets.UTF_8);
+      this.position += size;
+    } else {
+      byte[] bytes = new byte[Math.min(size, STREAM_CHUNK_SIZE)];
+      for (int read = 0; read < size;) {
+        if (read == bytes.length) {
+          bytes = Arrays.copyOf(bytes, (int) Math.min(size, bytes.length * 2L));
+        }
+        final int count = this.in.read(bytes, read, bytes.length - read);
+        if (count < 0) throw new EOFException();
+        read += count;
+      }
+      string = new String(bytes, StandardCharsets.UTF_8);
+    }
+    this.strings.add(string);
+    return string;
+  }
+
+  private boolean readBoolean() throws IOException {
+    return this.readByte() != 0;
+  }
+
+  private int readByte() throws IOException {
+    if (this.in == null) {
+      if (this.position >= this.bytes.length) throw new EOFException();
+      return this.bytes[this.position++] & 0xff;
+    }
+    final int value = this.in.read();
+    if (value < 0) throw new EOFException();
+    return value;
+  }
+
+  private int readVarInt() throws IOException {
+    int value = 0;
+    for (int shift = 0; shift < 35; shift += 7) {
+      final int b = this.readByte();
+      value |= (b & 0x7f) << shift;
+      if ((b & 0x80) == 0) return value;
+    }
+    throw new IOException("Variable-length int is too long");
+  }
+
+  private long readLong() throws IOException {
+    long value = 0;
+    for (int i = 0; i < Long.BYTES; i++) {
+      value = value << 8 | this.readByte();
+    }
+    return value;
+  }
+}
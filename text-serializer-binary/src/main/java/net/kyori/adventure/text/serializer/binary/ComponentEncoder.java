@@ -0,0 +1,373 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2022 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text.serializer.binary;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import net.kyori.adventure.key.Key;
+import net.kyori.adventure.nbt.api.BinaryTagHolder;
+import net.kyori.adventure.text.BlockNBTComponent;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.EntityNBTComponent;
+import net.kyori.adventure.text.KeybindComponent;
+import net.kyori.adventure.text.NBTComponent;
+import net.kyori.adventure.text.ScoreComponent;
+import net.kyori.adventure.text.SelectorComponent;
+import net.kyori.adventure.text.StorageNBTComponent;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.TranslatableComponent;
+import net.kyori.adventure.text.event.ClickEvent;
+import net.kyori.adventure.text.event.HoverEvent;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.Style;
+import net.kyori.adventure.text.format.TextColor;
+import net.kyori.adventure.text.format.TextDecoration;
+import org.jetbrains.annotations.Nullable;
+
+import static net.kyori.adventure.text.serializer.binary.BinaryComponentSerializerImpl.BLOCK_NBT;
+import static net.kyori.adventure.text.serializer.binary.BinaryComponentSerializerImpl.CLICK_ACTIONS;
+import static net.kyori.adventure.text.serializer.binary.BinaryComponentSerializerImpl.DECORATIONS;
+import static net.kyori.adventure.text.serializer.binary.BinaryComponentSerializerImpl.ENTITY_NBT;
+import static net.kyori.adventure.text.serializer.binary.BinaryComponentSerializerImpl.FORMAT_VERSION;
+import static net.kyori.adventure.text.serializer.binary.BinaryComponentSerializerImpl.HOVER_ACTIONS;
+import static net.kyori.adventure.text.serializer.binary.BinaryComponentSerializerImpl.KEYBIND;
+import static net.kyori.adventure.text.serializer.binary.BinaryComponentSerializerImpl.SCORE;
+import static net.kyori.adventure.text.serializer.binary.BinaryComponentSerializerImpl.SELECTOR;
+import static net.kyori.adventure.text.serializer.binary.BinaryComponentSerializerImpl.STORAGE_NBT;
+import static net.kyori.adventure.text.serializer.binary.BinaryComponentSerializerImpl.STYLE_CLICK_EVENT;
+import static net.kyori.adventure.text.serializer.binary.BinaryComponentSerializerImpl.STYLE_COLOR;
+import static net.kyori.adventure.text.serializer.binary.BinaryComponentSerializerImpl.STYLE_EMPTY;
+import static net.kyori.adventure.text.serializer.binary.BinaryComponentSerializerImpl.STYLE_FONT;
+import static net.kyori.adventure.text.serializer.binary.BinaryComponentSerializerImpl.STYLE_HOVER_EVENT;
+import static net.kyori.adventure.text.serializer.binary.BinaryComponentSerializerImpl.STYLE_INLINE;
+import static net.kyori.adventure.text.serializer.binary.BinaryComponentSerializerImpl.STYLE_INSERTION;
+import static net.kyori.adventure.text.serializer.binary.BinaryComponentSerializerImpl.STYLE_REFERENCE;
+import static net.kyori.adventure.text.serializer.binary.BinaryComponentSerializerImpl.TEXT;
+import static net.kyori.adventure.text.serializer.binary.BinaryComponentSerializerImpl.TRANSLATABLE;
+
+/**
+ * Writes a single component in the binary format.
+ *
+ * <p>Bytes are staged in a buffer, which is pushed to the output stream when it fills up,
+ * or grows when there is no stream.</p>
+ */
+final class ComponentEncoder {
+  private static final int BUFFER_SIZE = 512;
+
+  private final @Nullable OutputStream out;
+  private byte[] buffer = new byte[BUFFER_SIZE];
+  private int length;
+  // strings and styles already written, by the index they are referred back to with
+  private final Map<String, Integer> strings = new HashMap<>();
+  private final Map<Style, Integer> styles = new HashMap<>();
+
+  ComponentEncoder(final @Nullable OutputStream out) {
+    this.out = out;
+  }
+
+  void writeRoot(final Component component) throws IOException {
+    this.writeByte(FORMAT_VERSION);
+    this.writeComponent(component);
+    if (this.out != null) {
+      this.out.write(this.buffer, 0, this.length);
+      this.length = 0;
+    }
+  }
+
+  byte[] toByteArray() {
+    return Arrays.copyOf(this.buffer, this.length);
+  }
+
+  private void writeComponent(final Component component) throws IOException {
+    if (component instanceof TextComponent) {
+      this.writeByte(TEXT);
+      this.writeStyle(component.style());
+      this.writeString(((TextComponent) component).content());
+    } else if (component instanceof TranslatableComponent) {
+      final TranslatableComponent translatable = (TranslatableComponent) component;
+      this.writeByte(TRANSLATABLE);
+      this.writeStyle(component.style());
+      this.writeString(translatable.key());
+      this.writeComponents(translatable.args());
+    } else if (component instanceof ScoreComponent) {
+      final ScoreComponent score = (ScoreComponent) component;
+      this.writeByte(SCORE);
+      this.writeStyle(component.style());
+      this.writeString(score.name());
+      this.writeString(score.objective());
+      this.writeNullableString(score.value());
+    } else if (component instanceof SelectorComponent) {
+      final SelectorComponent selector = (SelectorComponent) component;
+      this.writeByte(SELECTOR);
+      this.writeStyle(component.style());
+      this.writeString(selector.pattern());
+      this.writeNullableComponent(selector.separator());
+    } else if (component instanceof KeybindComponent) {
+      this.writeByte(KEYBIND);
+      this.writeStyle(component.style());
+      this.writeString(((KeybindComponent) component).keybind());
+    } else if (component instanceof NBTComponent) {
+      final NBTComponent<?, ?> nbt = (NBTComponent<?, ?>) component;
+      if (component instanceof BlockNBTComponent) {
+        this.writeByte(BLOCK_NBT);
+      } else if (component instanceof EntityNBTComponent) {
+        this.writeByte(ENTITY_NBT);
+      } else if (component instanceof StorageNBTComponent) {
+        this.writeByte(STORAGE_NBT);
+      } else {
+        throw notSureHowToSerialize(component);
+      }
+      this.writeStyle(component.style());
+      this.writeString(nbt.nbtPath());
+      this.writeBoolean(nbt.interpret());
+      this.writeNullableComponent(nbt.separator());
+      if (component instanceof BlockNBTComponent) {
+        this.writeString(((BlockNBTComponent) component).pos().asString());
+      } else if (component instanceof EntityNBTComponent) {
+        this.writeString(((EntityNBTComponent) component).selector());
+      } else {
+        this.writeKey(((StorageNBTComponent) component).storage());
+      }
+    } else {
+      throw notSureHowToSerialize(component);
+    }
+    this.writeComponents(component.children());
+  }
+
+  private void writeComponents(final List<Component> components) throws IOException {
+    final int size = components.size();
+    this.writeVarInt(size);
+    for (int i = 0; i < size; i++) {
+      this.writeComponent(components.get(i));
+    }
+  }
+
+  private void writeNullableComponent(final @Nullable Component component) throws IOException {
+    this.writeBoolean(component != null);
+    if (component != null) {
+      this.writeComponent(component);
+    }
+  }
+
+  private void writeStyle(final Style style) throws IOException {
+    if (style.isEmpty()) {
+      this.writeVarInt(STYLE_EMPTY);
+      return;
+    }
+    final @Nullable Integer index = this.styles.get(style);
+    if (index != null) {
+      this.writeVarInt(STYLE_REFERENCE + index);
+      return;
+    }
+
+    this.writeVarInt(STYLE_INLINE);
+    final @Nullable TextColor color = style.color();
+    final @Nullable Key font = style.font();
+    final @Nullable String insertion = style.insertion();
+    final @Nullable ClickEvent clickEvent = style.clickEvent();
+    final @Nullable HoverEvent<?> hoverEvent = style.hoverEvent();
+    this.writeVarInt((color != null ? STYLE_COLOR : 0)
+      | (font != null ? STYLE_FONT : 0)
+      | (insertion != null ? STYLE_INSERTION : 0)
+      | (clickEvent != null ? STYLE_CLICK_EVENT : 0)
+      | (hoverEvent != null ? STYLE_HOVER_EVENT : 0));
+    this.writeVarInt(decorations(style));
+    if (color != null) {
+      // named colors are kept apart, as they are not equal to a plain color of the same value
+      this.writeVarInt(color.value() << 1 | (color instanceof NamedTextColor ? 1 : 0));
+    }
+    if (font != null) {
+      this.writeKey(font);
+    }
+    if (insertion != null) {
+      this.writeString(insertion);
+    }
+    if (clickEvent != null) {
+      this.writeByte(indexOf(CLICK_ACTIONS, clickEvent.action()));
+      this.writeString(clickEvent.value());
+    }
+    if (hoverEvent != null) {
+      this.writeHoverEvent(hoverEvent);
+    }
+    // registered once fully written, as the decoder only knows the style from then on
+    this.styles.put(style, this.styles.size());
+  }
+
+  private void writeHoverEvent(final HoverEvent<?> hoverEvent) throws IOException {
+    this.writeByte(indexOf(HOVER_ACTIONS, hoverEvent.action()));
+    final Object value = hoverEvent.value();
+    if (value instanceof Component) {
+      this.writeComponent((Component) value);
+    } else if (value instanceof HoverEvent.ShowItem) {
+      final HoverEvent.ShowItem item = (HoverEvent.ShowItem) value;
+      final @Nullable BinaryTagHolder nbt = item.nbt();
+      this.writeKey(item.item());
+      this.writeVarInt(item.count());
+      this.writeNullableString(nbt == null ? null : nbt.string());
+    } else if (value instanceof HoverEvent.ShowEntity) {
+      final HoverEvent.ShowEntity entity = (HoverEvent.ShowEntity) value;
+      final UUID id = entity.id();
+      this.writeKey(entity.type());
+      this.writeLong(id.getMostSignificantBits());
+      this.writeLong(id.getLeastSignificantBits());
+      this.writeNullableComponent(entity.name());
+    } else {
+      throw new IllegalArgumentException("Don't know how to serialize " + value + " as hover event contents");
+    }
+  }
+
+  // two bits per decoration, in the order of DECORATIONS: zero when not set, one when false and two when true
+  static int decorations(final Style style) {
+    int decorations = 0;
+    for (int i = 0; i < DECORATIONS.length; i++) {
+      final TextDecoration.State state = style.decoration(DECORATIONS[i]);
+      if (state != TextDecoration.State.NOT_SET) {
+        decorations |= (state == TextDecoration.State.TRUE ? 2 : 1) << (i << 1);
+      }
+    }
+    return decorations;
+  }
+
+  private void writeKey(final Key key) throws IOException {
+    this.writeString(key.asString());
+  }
+
+  private void writeNullableString(final @Nullable String string) throws IOException {
+    this.writeBoolean(string != null);
+    if (string != null) {
+      this.writeString(string);
+    }
+  }
+
+  // the lowest bit tells a reference to an earlier string, by index, apart from the byte length of a new one
+  private void writeString(final String string) throws IOException {
+    final @Nullable Integer index = this.strings.get(string);
+    if (index != null) {
+      this.writeVarInt(index << 1 | 1);
+      return;
+    }
+    this.strings.put(string, this.strings.size());
+
+    final int length = string.length();
+    final int size = utf8Length(string);
+    this.writeVarInt(size << 1);
+    this.ensure(size);
+    final byte[] buffer = this.buffer;
+    int pos = this.length;
+    for (int i = 0; i < length; i++) {
+      final char c = string.charAt(i);
+      if (c < 0x80) {
+        buffer[pos++] = (byte) c;
+      } else if (c < 0x800) {
+        buffer[pos++] = (byte) (0xc0 | (c >> 6));
+        buffer[pos++] = (byte) (0x80 | (c & 0x3f));
+      } else if (Character.isSurrogate(c)) {
+        if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(string.charAt(i + 1))) {
+          final int cp = Character.toCodePoint(c, string.charAt(++i));
+          buffer[pos++] = (byte) (0xf0 | (cp >> 18));
+          buffer[pos++] = (byte) (0x80 | ((cp >> 12) & 0x3f));
+          buffer[pos++] = (byte) (0x80 | ((cp >> 6) & 0x3f));
+          buffer[pos++] = (byte) (0x80 | (cp & 0x3f));
+        } else {
+          buffer[pos++] = '?'; // as String#getBytes does for unpaired surrogates
+        }
+      } else {
+        buffer[pos++] = (byte) (0xe0 | (c >> 12));
+        buffer[pos++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+        buffer[pos++] = (byte) (0x80 | (c & 0x3f));
+      }
+    }
+    this.length = pos;
+  }
+
+  private static int utf8Length(final String string) {
+    final int length = string.length();
+    int size = length;
+    for (int i = 0; i < length; i++) {
+      final char c = string.charAt(i);
+      if (c >= 0x800) {
+        if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(string.charAt(i + 1))) {
+          size += 2; // four bytes for the pair
+          i++;
+        } else if (!Character.isSurrogate(c)) {
+          size += 2;
+        }
+      } else if (c >= 0x80) {
+        size++;
+      }
+    }
+    return size;
+  }
+
+  private void writeBoolean(final boolean value) throws IOException {
+    this.writeByte(value ? 1 : 0);
+  }
+
+  private void writeByte(final int value) throws IOException {
+    this.ensure(1);
+    this.buffer[this.length++] = (byte) value;
+  }
+
+  private void writeVarInt(int value) throws IOException {
+    this.ensure(5);
+    while ((value & ~0x7f) != 0) {
+      this.buffer[this.length++] = (byte) ((value & 0x7f) | 0x80);
+      value >>>= 7;
+    }
+    this.buffer[this.length++] = (byte) value;
+  }
+
+  private void writeLong(final long value) throws IOException {
+    this.ensure(Long.BYTES);
+    for (int shift = 56; shift >= 0; shift -= 8) {
+      this.buffer[this.length++] = (byte) (value >>> shift);
+    }
+  }
+
+  private void ensure(final int size) throws IOException {
+    if (this.length + size <= this.buffer.length) return;
+    if (this.out != null) {
+      this.out.write(this.buffer, 0, this.length);
+      this.length = 0;
+      if (size <= this.buffer.length) return;
+    }
+    this.buffer = Arrays.copyOf(this.buffer, Math.max(this.buffer.length << 1, this.length + size));
+  }
+
+  private static int indexOf(final Object[] values, final Object value) {
+    for (int i = 0; i < values.length; i++) {
+      if (values[i] == value) return i;
+    }
+    throw new IllegalArgumentException("Don't know how to serialize " + value);
+  }
+
+  static IllegalArgumentException notSureHowToSerialize(final Component component) {
+    return new IllegalArgumentException("Don't know how to serialize " + component + " as a Component");
+  }
+}
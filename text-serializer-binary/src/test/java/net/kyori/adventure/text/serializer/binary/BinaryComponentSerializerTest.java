@@ -0,0 +1,117 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2022 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text.serializer.binary;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.RoundTripComponents;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.event.ClickEvent;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.Style;
+import net.kyori.adventure.text.format.TextDecoration;
+import net.kyori.adventure.text.serializer.gson.GsonComponentSerializer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BinaryComponentSerializerTest {
+  @Test
+  void testRoundTrip() {
+    for (final Component component : RoundTripComponents.components()) {
+      final byte[] bytes = BinaryComponentSerializer.binary().serialize(component);
+      assertEquals(component, BinaryComponentSerializer.binary().deserialize(bytes));
+      assertTrue(bytes.length <= BinaryComponentSerializer.binary().estimateSize(component));
+    }
+  }
+
+  @Test
+  void testStreams() throws IOException {
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    for (final Component component : RoundTripComponents.components()) {
+      BinaryComponentSerializer.binary().serialize(component, output);
+    }
+
+    final ByteArrayInputStream input = new ByteArrayInputStream(output.toByteArray());
+    for (final Component component : RoundTripComponents.components()) {
+      assertEquals(component, BinaryComponentSerializer.binary().deserialize(input));
+    }
+    assertEquals(-1, input.read());
+  }
+
+  @Test
+  void testRepeatedStringsAndStyles() {
+    final Style style = Style.style(NamedTextColor.AQUA, TextDecoration.BOLD).clickEvent(ClickEvent.runCommand("/help"));
+    final TextComponent.Builder builder = Component.text();
+    for (int i = 0; i < 100; i++) {
+      builder.append(Component.text("repeated", style));
+    }
+    final Component component = builder.build();
+
+    final byte[] bytes = BinaryComponentSerializer.binary().serialize(component);
+    assertEquals(component, BinaryComponentSerializer.binary().deserialize(bytes));
+    // each repeat is a type, a style reference, a string reference and a child count
+    assertTrue(bytes.length < 100 * 4 + 64, "was " + bytes.length);
+    assertTrue(bytes.length * 5 < GsonComponentSerializer.gson().serialize(component).getBytes(StandardCharsets.UTF_8).length);
+  }
+
+  @Test
+  void testMalformed() {
+    final byte[] bytes = BinaryComponentSerializer.binary().serialize(Component.text("hello", NamedTextColor.RED));
+    assertThrows(IllegalArgumentException.class, () -> BinaryComponentSerializer.binary().deserialize(Arrays.copyOf(bytes, bytes.length - 1)));
+    assertThrows(IllegalArgumentException.class, () -> BinaryComponentSerializer.binary().deserialize(Arrays.copyOf(bytes, bytes.length + 1)));
+    assertThrows(IllegalArgumentException.class, () -> BinaryComponentSerializer.binary().deserialize(new byte[] {(byte) (BinaryComponentSerializerImpl.FORMAT_VERSION + 1)}));
+  }
+
+  @Test
+  @SuppressWarnings("checkstyle:NoWhitespaceAfter")
+  void testMalformedReferencesAndKeys() {
+    final byte version = (byte) BinaryComponentSerializerImpl.FORMAT_VERSION;
+    // a style reference that decodes to a negative index
+    assertThrows(IllegalArgumentException.class, () -> BinaryComponentSerializer.binary().deserialize(new byte[] {
+      version, BinaryComponentSerializerImpl.TEXT, (byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xff, 0x0f
+    }));
+    // a storage key that is not a valid key: path "a", not interpreted, no separator, storage "A B"
+    assertThrows(IllegalArgumentException.class, () -> BinaryComponentSerializer.binary().deserialize(new byte[] {
+      version, BinaryComponentSerializerImpl.STORAGE_NBT, BinaryComponentSerializerImpl.STYLE_EMPTY, 2, 'a', 0, 0, 6, 'A', ' ', 'B', 0
+    }));
+  }
+
+  @Test
+  @SuppressWarnings("checkstyle:NoWhitespaceAfter")
+  void testStreamStringLengthIsNotTrusted() {
+    // a text component claiming a string of almost 1 GiB, followed by nothing
+    final byte[] bytes = {
+      (byte) BinaryComponentSerializerImpl.FORMAT_VERSION, BinaryComponentSerializerImpl.TEXT, BinaryComponentSerializerImpl.STYLE_EMPTY,
+      (byte) 0xfe, (byte) 0xff, (byte) 0xff, (byte) 0xff, 0x07
+    };
+    assertThrows(IOException.class, () -> BinaryComponentSerializer.binary().deserialize(new ByteArrayInputStream(bytes)));
+  }
+}
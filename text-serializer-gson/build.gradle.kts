@@ -7,6 +7,7 @@ dependencies {
   api(projects.adventureApi)
   api(libs.gson)
   testImplementation(projects.adventureNbt)
+  jmhImplementation(projects.adventureTextSerializerGsonLegacyImpl)
   annotationProcessor(projects.adventureAnnotationProcessors)
 }
 
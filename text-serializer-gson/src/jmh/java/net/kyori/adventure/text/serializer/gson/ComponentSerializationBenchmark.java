@@ -30,6 +30,7 @@ import net.kyori.adventure.nbt.api.BinaryTagHolder;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.text.format.TextDecoration;
+import net.kyori.adventure.text.serializer.gson.legacyimpl.NBTLegacyHoverEventSerializer;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Level;
@@ -52,6 +53,13 @@ import static net.kyori.adventure.text.serializer.gson.GsonComponentSerializer.g
 @BenchmarkMode(Mode.SampleTime)
 @OutputTimeUnit(TimeUnit.MICROSECONDS)
 public class ComponentSerializationBenchmark {
+  // targets clients from before hex colors and hover event contents
+  private static final GsonComponentSerializer LEGACY_CLIENT = GsonComponentSerializer.builder()
+    .downsampleColors()
+    .legacyHoverEventSerializer(NBTLegacyHoverEventSerializer.get())
+    .emitLegacyHoverEvent()
+    .build();
+
   private Component simpleComponent;
   private Component componentTreeWithStyle;
   private Component componentTreeWithEvents;
@@ -89,4 +97,14 @@ public class ComponentSerializationBenchmark {
   public String componentTreeWithEvents() {
     return gson().serialize(this.componentTreeWithEvents);
   }
+
+  @Benchmark
+  public String componentTreeWithStyleDownsampled() {
+    return LEGACY_CLIENT.serialize(this.componentTreeWithStyle);
+  }
+
+  @Benchmark
+  public String componentTreeWithEventsLegacy() {
+    return LEGACY_CLIENT.serialize(this.componentTreeWithEvents);
+  }
 }
@@ -0,0 +1,68 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2022 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text.serializer.gson;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A concurrent memo of computed values, emptied whenever it grows past its maximum size.
+ *
+ * <p>Values are computed outside of the map, so a computation may itself use the cache.
+ * Two threads may compute the same value at once, which is harmless for pure computations.</p>
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+final class BoundedCache<K, V> {
+  private final int maximumSize;
+  private final Map<K, V> values = new ConcurrentHashMap<>();
+
+  BoundedCache(final int maximumSize) {
+    this.maximumSize = maximumSize;
+  }
+
+  /**
+   * Gets the value for a key, computing and remembering it if it is not known.
+   *
+   * @param key the key
+   * @param compute computes the value, a {@code null} result is returned but not remembered
+   * @return the value
+   */
+  @Nullable V get(final K key, final Function<? super K, ? extends @Nullable V> compute) {
+    @Nullable V value = this.values.get(key);
+    if (value == null) {
+      value = compute.apply(key);
+      if (value != null) {
+        if (this.values.size() >= this.maximumSize) {
+          this.values.clear();
+        }
+        this.values.put(key, value);
+      }
+    }
+    return value;
+  }
+}
@@ -28,12 +28,11 @@ import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
 import com.google.gson.TypeAdapter;
-import com.google.gson.reflect.TypeToken;
 import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonToken;
 import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
-import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -51,6 +50,7 @@ import net.kyori.adventure.text.SelectorComponent;
 import net.kyori.adventure.text.StorageNBTComponent;
 import net.kyori.adventure.text.TextComponent;
 import net.kyori.adventure.text.TranslatableComponent;
+import net.kyori.adventure.text.format.Style;
 import org.jetbrains.annotations.Nullable;
 
 final class ComponentSerializerImpl extends TypeAdapter<Component> {
@@ -71,16 +71,23 @@ final class ComponentSerializerImpl extends TypeAdapter<Component> {
   static final String NBT_STORAGE = "storage";
   static final String SEPARATOR = "separator";
 
-  static final Type COMPONENT_LIST_TYPE = new TypeToken<List<Component>>() {}.getType();
-
   static TypeAdapter<Component> create(final Gson gson) {
     return new ComponentSerializerImpl(gson).nullSafe();
   }
 
   private final Gson gson;
+  private final @Nullable StyleSerializer styleSerializer;
+  // resolved once, rather than looked up through the gson instance for every value
+  private final TypeAdapter<Key> keyAdapter;
+  private final TypeAdapter<BlockNBTComponent.Pos> posAdapter;
 
   private ComponentSerializerImpl(final Gson gson) {
     this.gson = gson;
+    this.keyAdapter = gson.getAdapter(SerializerFactory.KEY_TYPE);
+    this.posAdapter = gson.getAdapter(SerializerFactory.BLOCK_NBT_POS_TYPE);
+    // our own style serializer reads and writes its fields directly on the component's stream, anything else goes through a tree
+    final TypeAdapter<Style> styleAdapter = gson.getAdapter(SerializerFactory.STYLE_TYPE);
+    this.styleSerializer = styleAdapter instanceof StyleSerializer ? (StyleSerializer) styleAdapter : null;
   }
 
   @Override
@@ -109,7 +116,8 @@ final class ComponentSerializerImpl extends TypeAdapter<Component> {
     }
 
     // common to all component types
-    final JsonObject style = new JsonObject();
+    final Style.Builder style = this.styleSerializer == null ? null : Style.style();
+    final JsonObject styleTree = this.styleSerializer == null ? new JsonObject() : null;
     List<Component> extra = Collections.emptyList();
 
     // type specific
@@ -131,50 +139,69 @@ final class ComponentSerializerImpl extends TypeAdapter<Component> {
     in.beginObject();
     while (in.hasNext()) {
       final String fieldName = in.nextName();
-      if (fieldName.equals(TEXT)) {
-        text = readString(in);
-      } else if (fieldName.equals(TRANSLATE)) {
-        translate = in.nextString();
-      } else if (fieldName.equals(TRANSLATE_WITH)) {
-        translateWith = this.gson.fromJson(in, COMPONENT_LIST_TYPE);
-      } else if (fieldName.equals(SCORE)) {
-        in.beginObject();
-        while (in.hasNext()) {
-          final String scoreFieldName = in.nextName();
-          if (scoreFieldName.equals(SCORE_NAME)) {
-            scoreName = in.nextString();
-          } else if (scoreFieldName.equals(SCORE_OBJECTIVE)) {
-            scoreObjective = in.nextString();
-          } else if (scoreFieldName.equals(SCORE_VALUE)) {
-            scoreValue = in.nextString();
+      switch (fieldName) {
+        case TEXT:
+          text = readString(in);
+          break;
+        case TRANSLATE:
+          translate = in.nextString();
+          break;
+        case TRANSLATE_WITH:
+          translateWith = this.readComponents(in);
+          break;
+        case SCORE:
+          in.beginObject();
+          while (in.hasNext()) {
+            final String scoreFieldName = in.nextName();
+            if (scoreFieldName.equals(SCORE_NAME)) {
+              scoreName = in.nextString();
+            } else if (scoreFieldName.equals(SCORE_OBJECTIVE)) {
+              scoreObjective = in.nextString();
+            } else if (scoreFieldName.equals(SCORE_VALUE)) {
+              scoreValue = in.nextString();
+            } else {
+              in.skipValue();
+            }
+          }
+          if (scoreName == null || scoreObjective == null) {
+            throw new JsonParseException("A score component requires a " + SCORE_NAME + " and " + SCORE_OBJECTIVE);
+          }
+          in.endObject();
+          break;
+        case SELECTOR:
+          selector = in.nextString();
+          break;
+        case KEYBIND:
+          keybind = in.nextString();
+          break;
+        case NBT:
+          nbt = in.nextString();
+          break;
+        case NBT_INTERPRET:
+          nbtInterpret = in.nextBoolean();
+          break;
+        case NBT_BLOCK:
+          nbtBlock = this.posAdapter.read(in);
+          break;
+        case NBT_ENTITY:
+          nbtEntity = in.nextString();
+          break;
+        case NBT_STORAGE:
+          nbtStorage = this.keyAdapter.read(in);
+          break;
+        case EXTRA:
+          extra = this.readComponents(in);
+          break;
+        case SEPARATOR:
+          separator = this.read(in);
+          break;
+        default:
+          if (style != null) {
+            this.styleSerializer.readField(fieldName, in, style);
           } else {
-            in.skipValue();
+            styleTree.add(fieldName, this.gson.fromJson(in, JsonElement.class));
           }
-        }
-        if (scoreName == null || scoreObjective == null) {
-          throw new JsonParseException("A score component requires a " + SCORE_NAME + " and " + SCORE_OBJECTIVE);
-        }
-        in.endObject();
-      } else if (fieldName.equals(SELECTOR)) {
-        selector = in.nextString();
-      } else if (fieldName.equals(KEYBIND)) {
-        keybind = in.nextString();
-      } else if (fieldName.equals(NBT)) {
-        nbt = in.nextString();
-      } else if (fieldName.equals(NBT_INTERPRET)) {
-        nbtInterpret = in.nextBoolean();
-      } else if (fieldName.equals(NBT_BLOCK)) {
-        nbtBlock = this.gson.fromJson(in, SerializerFactory.BLOCK_NBT_POS_TYPE);
-      } else if (fieldName.equals(NBT_ENTITY)) {
-        nbtEntity = in.nextString();
-      } else if (fieldName.equals(NBT_STORAGE)) {
-        nbtStorage = this.gson.fromJson(in, SerializerFactory.KEY_TYPE);
-      } else if (fieldName.equals(EXTRA)) {
-        extra = this.gson.fromJson(in, COMPONENT_LIST_TYPE);
-      } else if (fieldName.equals(SEPARATOR)) {
-        separator = this.read(in);
-      } else {
-        style.add(fieldName, this.gson.fromJson(in, JsonElement.class));
+          break;
       }
     }
 
@@ -211,12 +238,40 @@ final class ComponentSerializerImpl extends TypeAdapter<Component> {
       throw notSureHowToDeserialize(in.getPath());
     }
 
-    builder.style(this.gson.fromJson(style, SerializerFactory.STYLE_TYPE))
+    builder.style(style != null ? style.build() : this.gson.fromJson(styleTree, SerializerFactory.STYLE_TYPE))
         .append(extra);
     in.endObject();
     return builder.build();
   }
 
+  private @Nullable List<Component> readComponents(final JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+
+    final List<Component> components = new ArrayList<>();
+    in.beginArray();
+    while (in.hasNext()) {
+      if (in.peek() == JsonToken.NULL) {
+        in.nextNull();
+        components.add(null);
+      } else {
+        components.add(this.read(in));
+      }
+    }
+    in.endArray();
+    return components;
+  }
+
+  private void writeComponents(final JsonWriter out, final List<Component> components) throws IOException {
+    out.beginArray();
+    for (int i = 0, size = components.size(); i < size; i++) {
+      this.write(out, components.get(i));
+    }
+    out.endArray();
+  }
+
   private static String readString(final JsonReader in) throws IOException {
     final JsonToken peek = in.peek();
     if (peek == JsonToken.STRING || peek == JsonToken.NUMBER) {
@@ -239,7 +294,9 @@ final class ComponentSerializerImpl extends TypeAdapter<Component> {
   public void write(final JsonWriter out, final Component value) throws IOException {
     out.beginObject();
 
-    if (value.hasStyling()) {
+    if (value.hasStyling() && this.styleSerializer != null) {
+      this.styleSerializer.writeFields(out, value.style());
+    } else if (value.hasStyling()) {
       final JsonElement style = this.gson.toJsonTree(value.style(), SerializerFactory.STYLE_TYPE);
       if (style.isJsonObject()) {
         for (final Map.Entry<String, JsonElement> entry : style.getAsJsonObject().entrySet()) {
@@ -251,7 +308,7 @@ final class ComponentSerializerImpl extends TypeAdapter<Component> {
 
     if (!value.children().isEmpty()) {
       out.name(EXTRA);
-      this.gson.toJson(value.children(), COMPONENT_LIST_TYPE, out);
+      this.writeComponents(out, value.children());
     }
 
     if (value instanceof TextComponent) {
@@ -263,7 +320,7 @@ final class ComponentSerializerImpl extends TypeAdapter<Component> {
       out.value(translatable.key());
       if (!translatable.args().isEmpty()) {
         out.name(TRANSLATE_WITH);
-        this.gson.toJson(translatable.args(), COMPONENT_LIST_TYPE, out);
+        this.writeComponents(out, translatable.args());
       }
     } else if (value instanceof ScoreComponent) {
       final ScoreComponent score = (ScoreComponent) value;
@@ -295,13 +352,13 @@ final class ComponentSerializerImpl extends TypeAdapter<Component> {
       this.serializeSeparator(out, nbt.separator());
       if (value instanceof BlockNBTComponent) {
         out.name(NBT_BLOCK);
-        this.gson.toJson(((BlockNBTComponent) value).pos(), SerializerFactory.BLOCK_NBT_POS_TYPE, out);
+        this.posAdapter.write(out, ((BlockNBTComponent) value).pos());
       } else if (value instanceof EntityNBTComponent) {
         out.name(NBT_ENTITY);
         out.value(((EntityNBTComponent) value).selector());
       } else if (value instanceof StorageNBTComponent) {
         out.name(NBT_STORAGE);
-        this.gson.toJson(((StorageNBTComponent) value).storage(), SerializerFactory.KEY_TYPE, out);
+        this.keyAdapter.write(out, ((StorageNBTComponent) value).storage());
       } else {
         throw notSureHowToSerialize(value);
       }
@@ -26,8 +26,18 @@ package net.kyori.adventure.text.serializer.gson;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonElement;
+import com.google.gson.JsonIOException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
 import net.kyori.adventure.builder.AbstractBuilder;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.serializer.ComponentSerializer;
@@ -113,6 +123,135 @@ public interface GsonComponentSerializer extends ComponentSerializer<Component,
    */
   @NotNull JsonElement serializeToTree(final @NotNull Component component);
 
+  /**
+   * Deserialize many inputs at once, spread over the {@link ForkJoinPool#commonPool() common pool}.
+   *
+   * <p>If any input cannot be deserialized, one of the failures is rethrown.</p>
+   *
+   * @param inputs the inputs
+   * @return the components, in the order of their inputs
+   * @since 4.13.0
+   */
+  default @NotNull List<Component> deserializeAll(final @NotNull List<String> inputs) {
+    return GsonComponentSerializerImpl.deserializeAll(this, inputs, ForkJoinPool.commonPool(), (input, ex) -> {
+      throw ex;
+    });
+  }
+
+  /**
+   * Deserialize many inputs at once, spread over an executor.
+   *
+   * <p>Failures are handled per input: the handler is given the input and the exception
+   * it caused, and its result takes the place of the component. The handler may also
+   * rethrow the exception, to fail the whole batch.</p>
+   *
+   * <p>Small batches are deserialized on the calling thread.</p>
+   *
+   * @param inputs the inputs
+   * @param executor the executor to deserialize on
+   * @param onError the handler for inputs that could not be deserialized
+   * @return the components, in the order of their inputs
+   * @since 4.13.0
+   */
+  default @NotNull List<Component> deserializeAll(final @NotNull List<String> inputs, final @NotNull Executor executor, final @NotNull BiFunction<? super String, ? super RuntimeException, ? extends @Nullable Component> onError) {
+    return GsonComponentSerializerImpl.deserializeAll(this, inputs, executor, onError);
+  }
+
+  /**
+   * Deserialize a stream of inputs.
+   *
+   * <p>The inputs are deserialized as the returned stream is consumed, in parallel if the stream is parallel.</p>
+   *
+   * @param inputs the inputs
+   * @return a stream of the components
+   * @since 4.13.0
+   */
+  default @NotNull Stream<Component> deserializeAll(final @NotNull Stream<String> inputs) {
+    return inputs.map(this::deserialize);
+  }
+
+  /**
+   * Serialize a component to UTF-8 encoded JSON.
+   *
+   * <p>The characters are encoded as they are written, without creating an intermediate string.</p>
+   *
+   * @param component the component
+   * @return the UTF-8 encoded json
+   * @since 4.13.0
+   */
+  default byte @NotNull [] serializeToBytes(final @NotNull Component component) {
+    final Utf8Writer writer = new Utf8Writer();
+    try {
+      GsonComponentSerializerImpl.write(this.serializer(), component, writer);
+    } catch (final IOException ex) {
+      throw new JsonIOException(ex);
+    }
+    return writer.toByteArray();
+  }
+
+  /**
+   * Serialize a component as UTF-8 encoded JSON into a byte buffer.
+   *
+   * <p>The json is written at the current position of the buffer, which is advanced past it.
+   * If the json does not fit, the position is left unchanged.</p>
+   *
+   * @param component the component
+   * @param output the buffer to write to
+   * @throws BufferOverflowException if there is not enough space remaining in the buffer
+   * @since 4.13.0
+   */
+  default void serializeToBytes(final @NotNull Component component, final @NotNull ByteBuffer output) {
+    final int start = output.position();
+    try {
+      GsonComponentSerializerImpl.write(this.serializer(), component, new Utf8Writer(output));
+    } catch (final IOException ex) {
+      throw new JsonIOException(ex);
+    } catch (final BufferOverflowException ex) {
+      output.position(start);
+      throw ex;
+    }
+  }
+
+  /**
+   * Serialize a component as UTF-8 encoded JSON into an output stream.
+   *
+   * <p>The stream is flushed once the json has been written, but is not closed.</p>
+   *
+   * @param component the component
+   * @param output the stream to write to
+   * @throws IOException if the stream could not be written to
+   * @since 4.13.0
+   */
+  default void serializeToBytes(final @NotNull Component component, final @NotNull OutputStream output) throws IOException {
+    GsonComponentSerializerImpl.write(this.serializer(), component, new Utf8Writer(output));
+  }
+
+  /**
+   * Deserialize a component from UTF-8 encoded JSON.
+   *
+   * <p>The bytes are decoded as they are read, without creating an intermediate string.</p>
+   *
+   * @param input the UTF-8 encoded json
+   * @return the component
+   * @since 4.13.0
+   */
+  default @NotNull Component deserializeFromBytes(final byte @NotNull [] input) {
+    return GsonComponentSerializerImpl.read(this.serializer(), ByteBuffer.wrap(input));
+  }
+
+  /**
+   * Deserialize a component from the UTF-8 encoded JSON remaining in a byte buffer.
+   *
+   * <p>The position of the buffer is advanced to its limit.</p>
+   *
+   * @param input the buffer holding UTF-8 encoded json
+   * @return the component
+   * @since 4.13.0
+   */
+  default @NotNull Component deserializeFromBytes(final @NotNull ByteBuffer input) {
+    return GsonComponentSerializerImpl.read(this.serializer(), input);
+  }
+
   /**
    * A builder for {@link GsonComponentSerializer}.
    *
@@ -149,6 +288,18 @@ public interface GsonComponentSerializer extends ComponentSerializer<Component,
      */
     @NotNull Builder emitLegacyHoverEvent();
 
+    /**
+     * Sets that the contents of hover events should only be decoded when they are first needed.
+     *
+     * <p>The contents are kept as read, and written back out unchanged by the same serializer if they
+     * were never looked at. Any errors in the contents are only reported once they are decoded,
+     * by {@link net.kyori.adventure.text.event.HoverEvent#value()}.</p>
+     *
+     * @return this builder
+     * @since 4.13.0
+     */
+    @NotNull Builder lazyHoverEvents();
+
     /**
      * Builds the serializer.
      *
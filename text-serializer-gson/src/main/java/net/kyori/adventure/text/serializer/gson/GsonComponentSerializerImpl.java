@@ -26,7 +26,16 @@ package net.kyori.adventure.text.serializer.gson;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.UnaryOperator;
 import net.kyori.adventure.text.Component;
@@ -46,24 +55,29 @@ final class GsonComponentSerializerImpl implements GsonComponentSerializer {
   static final class Instances {
     static final GsonComponentSerializer INSTANCE = SERVICE
       .map(Provider::gson)
-      .orElseGet(() -> new GsonComponentSerializerImpl(false, null, false));
+      .orElseGet(() -> new GsonComponentSerializerImpl(false, null, false, false));
     static final GsonComponentSerializer LEGACY_INSTANCE = SERVICE
       .map(Provider::gsonLegacy)
-      .orElseGet(() -> new GsonComponentSerializerImpl(true, null, true));
+      .orElseGet(() -> new GsonComponentSerializerImpl(true, null, true, false));
   }
 
+  // the fewest inputs handed to a single task when deserializing in batches
+  private static final int BATCH_CHUNK_SIZE = 64;
+
   private final Gson serializer;
   private final UnaryOperator<GsonBuilder> populator;
   private final boolean downsampleColor;
   private final @Nullable LegacyHoverEventSerializer legacyHoverSerializer;
   private final boolean emitLegacyHover;
+  private final boolean lazyHover;
 
-  GsonComponentSerializerImpl(final boolean downsampleColor, final @Nullable LegacyHoverEventSerializer legacyHoverSerializer, final boolean emitLegacyHover) {
+  GsonComponentSerializerImpl(final boolean downsampleColor, final @Nullable LegacyHoverEventSerializer legacyHoverSerializer, final boolean emitLegacyHover, final boolean lazyHover) {
     this.downsampleColor = downsampleColor;
     this.legacyHoverSerializer = legacyHoverSerializer;
     this.emitLegacyHover = emitLegacyHover;
+    this.lazyHover = lazyHover;
     this.populator = builder -> {
-      builder.registerTypeAdapterFactory(new SerializerFactory(downsampleColor, legacyHoverSerializer, emitLegacyHover));
+      builder.registerTypeAdapterFactory(new SerializerFactory(downsampleColor, legacyHoverSerializer, emitLegacyHover, lazyHover));
       return builder;
     };
     this.serializer = this.populator.apply(
@@ -114,6 +128,61 @@ final class GsonComponentSerializerImpl implements GsonComponentSerializer {
     return this.serializer().toJsonTree(component);
   }
 
+  static List<Component> deserializeAll(final GsonComponentSerializer serializer, final List<String> inputs, final Executor executor, final BiFunction<? super String, ? super RuntimeException, ? extends @Nullable Component> onError) {
+    final String[] strings = inputs.toArray(new String[0]);
+    final Component[] results = new Component[strings.length];
+    final int chunks = Math.min(strings.length / BATCH_CHUNK_SIZE, Runtime.getRuntime().availableProcessors() * 4);
+    if (chunks <= 1) {
+      deserializeRange(serializer, strings, results, 0, strings.length, onError);
+      return Arrays.asList(results);
+    }
+
+    final CompletableFuture<?>[] futures = new CompletableFuture<?>[chunks];
+    for (int i = 0; i < chunks; i++) {
+      final int start = (int) ((long) strings.length * i / chunks);
+      final int end = (int) ((long) strings.length * (i + 1) / chunks);
+      futures[i] = CompletableFuture.runAsync(() -> deserializeRange(serializer, strings, results, start, end, onError), executor);
+    }
+    // wait for every chunk, so none is still running once we return or throw
+    Throwable failure = null;
+    for (final CompletableFuture<?> future : futures) {
+      try {
+        future.join();
+      } catch (final CompletionException ex) {
+        final Throwable cause = ex.getCause() instanceof RuntimeException || ex.getCause() instanceof Error ? ex.getCause() : ex;
+        if (failure == null) {
+          failure = cause;
+        } else {
+          failure.addSuppressed(cause);
+        }
+      }
+    }
+    if (failure instanceof RuntimeException) throw (RuntimeException) failure;
+    if (failure instanceof Error) throw (Error) failure;
+    return Arrays.asList(results);
+  }
+
+  private static void deserializeRange(final GsonComponentSerializer serializer, final String[] inputs, final Component[] results, final int start, final int end, final BiFunction<? super String, ? super RuntimeException, ? extends @Nullable Component> onError) {
+    for (int i = start; i < end; i++) {
+      try {
+        results[i] = serializer.deserialize(inputs[i]);
+      } catch (final RuntimeException ex) {
+        results[i] = onError.apply(inputs[i], ex);
+      }
+    }
+  }
+
+  static void write(final Gson gson, final Component component, final Utf8Writer writer) throws IOException {
+    gson.getAdapter(Component.class).write(gson.newJsonWriter(writer), component);
+    writer.finish();
+  }
+
+  static Component read(final Gson gson, final ByteBuffer input) {
+    final Component component = gson.fromJson(new Utf8Reader(input), Component.class);
+    if (component == null) throw ComponentSerializerImpl.notSureHowToDeserialize(JsonNull.INSTANCE);
+    return component;
+  }
+
   @Override
   public @NotNull Builder toBuilder() {
     return new BuilderImpl(this);
@@ -123,6 +192,7 @@ final class GsonComponentSerializerImpl implements GsonComponentSerializer {
     private boolean downsampleColor = false;
     private @Nullable LegacyHoverEventSerializer legacyHoverSerializer;
     private boolean emitLegacyHover = false;
+    private boolean lazyHover = false;
 
     BuilderImpl() {
       BUILDER.accept(this); // let service provider touch the builder before anybody else touches it
@@ -133,6 +203,7 @@ final class GsonComponentSerializerImpl implements GsonComponentSerializer {
       this.downsampleColor = serializer.downsampleColor;
       this.emitLegacyHover = serializer.emitLegacyHover;
       this.legacyHoverSerializer = serializer.legacyHoverSerializer;
+      this.lazyHover = serializer.lazyHover;
     }
 
     @Override
@@ -153,12 +224,18 @@ final class GsonComponentSerializerImpl implements GsonComponentSerializer {
       return this;
     }
 
+    @Override
+    public @NotNull Builder lazyHoverEvents() {
+      this.lazyHover = true;
+      return this;
+    }
+
     @Override
     public @NotNull GsonComponentSerializer build() {
-      if (this.legacyHoverSerializer == null) {
+      if (this.legacyHoverSerializer == null && !this.lazyHover) {
         return this.downsampleColor ? Instances.LEGACY_INSTANCE : Instances.INSTANCE;
       } else {
-        return new GsonComponentSerializerImpl(this.downsampleColor, this.legacyHoverSerializer, this.emitLegacyHover);
+        return new GsonComponentSerializerImpl(this.downsampleColor, this.legacyHoverSerializer, this.emitLegacyHover, this.lazyHover);
       }
     }
   }
@@ -53,11 +53,13 @@ final class SerializerFactory implements TypeAdapterFactory {
   private final boolean downsampleColors;
   private final LegacyHoverEventSerializer legacyHoverSerializer;
   private final boolean emitLegacyHover;
+  private final boolean lazyHover;
 
-  SerializerFactory(final boolean downsampleColors, final @Nullable LegacyHoverEventSerializer legacyHoverSerializer, final boolean emitLegacyHover) {
+  SerializerFactory(final boolean downsampleColors, final @Nullable LegacyHoverEventSerializer legacyHoverSerializer, final boolean emitLegacyHover, final boolean lazyHover) {
     this.downsampleColors = downsampleColors;
     this.legacyHoverSerializer = legacyHoverSerializer;
     this.emitLegacyHover = emitLegacyHover;
+    this.lazyHover = lazyHover;
   }
 
   @Override
@@ -69,7 +71,7 @@ final class SerializerFactory implements TypeAdapterFactory {
     } else if (KEY_TYPE.isAssignableFrom(rawType)) {
       return (TypeAdapter<T>) KeySerializer.INSTANCE;
     } else if (STYLE_TYPE.isAssignableFrom(rawType)) {
-      return (TypeAdapter<T>) StyleSerializer.create(this.legacyHoverSerializer, this.emitLegacyHover, gson);
+      return (TypeAdapter<T>) StyleSerializer.create(this.legacyHoverSerializer, this.emitLegacyHover, this.lazyHover, this.downsampleColors, gson);
     } else if (CLICK_ACTION_TYPE.isAssignableFrom(rawType)) {
       return (TypeAdapter<T>) ClickEventActionSerializer.INSTANCE;
     } else if (HOVER_ACTION_TYPE.isAssignableFrom(rawType)) {
@@ -25,9 +25,7 @@ package net.kyori.adventure.text.serializer.gson;
 
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
-import com.google.gson.JsonPrimitive;
 import com.google.gson.JsonSyntaxException;
 import com.google.gson.TypeAdapter;
 import com.google.gson.stream.JsonReader;
@@ -36,6 +34,7 @@ import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import java.util.EnumSet;
 import java.util.Set;
+import java.util.function.Supplier;
 import net.kyori.adventure.key.Key;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.event.ClickEvent;
@@ -79,102 +78,215 @@ final class StyleSerializer extends TypeAdapter<Style> {
   static final String HOVER_EVENT_ACTION = "action";
   static final String HOVER_EVENT_CONTENTS = "contents";
   static final @Deprecated String HOVER_EVENT_VALUE = "value";
+  static final int MAXIMUM_CACHED_LEGACY_HOVER_VALUES = 1024;
 
-  static TypeAdapter<Style> create(final @Nullable LegacyHoverEventSerializer legacyHover, final boolean emitLegacyHover, final Gson gson) {
-    return new StyleSerializer(legacyHover, emitLegacyHover, gson).nullSafe();
+  static TypeAdapter<Style> create(final @Nullable LegacyHoverEventSerializer legacyHover, final boolean emitLegacyHover, final boolean lazyHover, final boolean downsampleColors, final Gson gson) {
+    // not wrapped with nullSafe(), so the component serializer can recognise this adapter and share its stream
+    return new StyleSerializer(legacyHover, emitLegacyHover, lazyHover, downsampleColors, gson);
   }
 
   private final LegacyHoverEventSerializer legacyHover;
   private final boolean emitLegacyHover;
+  private final boolean lazyHover;
+  // contents read lazily are only written back as they were read when nothing in them needs rewriting
+  private final boolean downsampleColors;
   private final Gson gson;
+  // resolved once, rather than looked up through the gson instance for every value
+  private final TypeAdapter<Key> keyAdapter;
+  private final TypeAdapter<TextColor> colorAdapter;
+  private final TypeAdapter<TextColorWrapper> colorWrapperAdapter;
+  private final TypeAdapter<ClickEvent.Action> clickActionAdapter;
+  // encoding a legacy hover value goes through SNBT, and the same items and entities tend to be shown repeatedly
+  private final BoundedCache<Object, Component> legacyHoverValues = new BoundedCache<>(MAXIMUM_CACHED_LEGACY_HOVER_VALUES);
+  // the component adapter depends on this adapter, so it is resolved on first use
+  private @Nullable TypeAdapter<Component> componentAdapter;
 
-  private StyleSerializer(final @Nullable LegacyHoverEventSerializer legacyHover, final boolean emitLegacyHover, final Gson gson) {
+  private StyleSerializer(final @Nullable LegacyHoverEventSerializer legacyHover, final boolean emitLegacyHover, final boolean lazyHover, final boolean downsampleColors, final Gson gson) {
     this.legacyHover = legacyHover;
     this.emitLegacyHover = emitLegacyHover;
+    this.lazyHover = lazyHover;
+    this.downsampleColors = downsampleColors;
     this.gson = gson;
+    this.keyAdapter = gson.getAdapter(SerializerFactory.KEY_TYPE);
+    this.colorAdapter = gson.getAdapter(SerializerFactory.COLOR_TYPE);
+    this.colorWrapperAdapter = gson.getAdapter(SerializerFactory.COLOR_WRAPPER_TYPE);
+    this.clickActionAdapter = gson.getAdapter(SerializerFactory.CLICK_ACTION_TYPE);
+  }
+
+  private TypeAdapter<Component> componentAdapter() {
+    if (this.componentAdapter == null) {
+      this.componentAdapter = this.gson.getAdapter(SerializerFactory.COMPONENT_TYPE);
+    }
+    return this.componentAdapter;
   }
 
   @Override
-  public Style read(final JsonReader in) throws IOException {
+  public @Nullable Style read(final JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+
     in.beginObject();
     final Style.Builder style = Style.style();
 
     while (in.hasNext()) {
-      final String fieldName = in.nextName();
-      if (fieldName.equals(FONT)) {
-        style.font(this.gson.fromJson(in, SerializerFactory.KEY_TYPE));
-      } else if (fieldName.equals(COLOR)) {
-        final TextColorWrapper color = this.gson.fromJson(in, SerializerFactory.COLOR_WRAPPER_TYPE);
+      this.readField(in.nextName(), in, style);
+    }
+
+    in.endObject();
+    return style.build();
+  }
+
+  /**
+   * Reads the value of a single style field from the stream into a builder, skipping unknown fields.
+   *
+   * @param fieldName the name of the field, already read
+   * @param in the reader, positioned at the value
+   * @param style the builder to apply the value to
+   * @throws IOException if the value could not be read
+   */
+  void readField(final String fieldName, final JsonReader in, final Style.Builder style) throws IOException {
+    switch (fieldName) {
+      case FONT:
+        style.font(this.keyAdapter.read(in));
+        break;
+      case COLOR:
+        final TextColorWrapper color = this.colorWrapperAdapter.read(in);
         if (color.color != null) {
           style.color(color.color);
         } else if (color.decoration != null) {
           style.decoration(color.decoration, TextDecoration.State.TRUE);
         }
-      } else if (TextDecoration.NAMES.keys().contains(fieldName)) {
-        style.decoration(TextDecoration.NAMES.value(fieldName), this.readBoolean(in));
-      } else if (fieldName.equals(INSERTION)) {
+        break;
+      case INSERTION:
         style.insertion(in.nextString());
-      } else if (fieldName.equals(CLICK_EVENT)) {
-        in.beginObject();
-        ClickEvent.Action action = null;
-        String value = null;
-        while (in.hasNext()) {
-          final String clickEventField = in.nextName();
-          if (clickEventField.equals(CLICK_EVENT_ACTION)) {
-            action = this.gson.fromJson(in, SerializerFactory.CLICK_ACTION_TYPE);
-          } else if (clickEventField.equals(CLICK_EVENT_VALUE)) {
-            value = in.peek() == JsonToken.NULL ? null : in.nextString();
-          } else {
-            in.skipValue();
-          }
+        break;
+      case CLICK_EVENT:
+        this.readClickEvent(in, style);
+        break;
+      case HOVER_EVENT:
+        this.readHoverEvent(in, style);
+        break;
+      default:
+        final @Nullable TextDecoration decoration = TextDecoration.NAMES.value(fieldName);
+        if (decoration != null) {
+          style.decoration(decoration, this.readBoolean(in));
+        } else {
+          in.skipValue();
         }
-        if (action != null && action.readable() && value != null) {
-          style.clickEvent(ClickEvent.clickEvent(action, value));
+        break;
+    }
+  }
+
+  private void readClickEvent(final JsonReader in, final Style.Builder style) throws IOException {
+    in.beginObject();
+    ClickEvent.Action action = null;
+    String value = null;
+    while (in.hasNext()) {
+      final String clickEventField = in.nextName();
+      if (clickEventField.equals(CLICK_EVENT_ACTION)) {
+        action = this.clickActionAdapter.read(in);
+      } else if (clickEventField.equals(CLICK_EVENT_VALUE)) {
+        value = in.peek() == JsonToken.NULL ? null : in.nextString();
+      } else {
+        in.skipValue();
+      }
+    }
+    if (action != null && action.readable() && value != null) {
+      style.clickEvent(ClickEvent.clickEvent(action, value));
+    }
+    in.endObject();
+  }
+
+  @SuppressWarnings("unchecked")
+  private void readHoverEvent(final JsonReader in, final Style.Builder style) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return;
+    }
+
+    in.beginObject();
+    HoverEvent.@Nullable Action<Object> action = null;
+    // contents and legacy values are decoded as they are read once the action is known, and only kept as a tree otherwise
+    boolean hasContents = false;
+    @Nullable Object contents = null;
+    @Nullable JsonElement rawContents = null;
+    boolean hasLegacyValue = false;
+    @Nullable Component legacyValue = null;
+    @Nullable JsonElement rawLegacyValue = null;
+    while (in.hasNext()) {
+      final String fieldName = in.nextName();
+      if (fieldName.equals(HOVER_EVENT_ACTION)) {
+        action = this.gson.getAdapter(SerializerFactory.HOVER_ACTION_TYPE).read(in);
+      } else if (fieldName.equals(HOVER_EVENT_CONTENTS)) {
+        hasContents = true;
+        contents = null;
+        rawContents = null;
+        final @Nullable Class<?> contentsType = action == null ? null : contentsType(action);
+        if (in.peek() == JsonToken.NULL) {
+          in.nextNull();
+        } else if (action == null || (this.lazyHover && contentsType != null)) {
+          rawContents = this.gson.getAdapter(JsonElement.class).read(in);
+        } else if (contentsType != null && action.readable()) {
+          contents = this.gson.getAdapter(contentsType).read(in);
+        } else {
+          in.skipValue();
         }
-        in.endObject();
-      } else if (fieldName.equals(HOVER_EVENT)) {
-        final JsonObject hoverEventObject = this.gson.fromJson(in, JsonObject.class);
-        if (hoverEventObject != null) {
-          final JsonPrimitive serializedAction = hoverEventObject.getAsJsonPrimitive(HOVER_EVENT_ACTION);
-          if (serializedAction == null) {
-            continue;
-          }
-
-          @SuppressWarnings("unchecked")
-          final HoverEvent.Action<Object> action = this.gson.fromJson(serializedAction, SerializerFactory.HOVER_ACTION_TYPE);
-          if (action.readable()) {
-            final @Nullable Object value;
-            if (hoverEventObject.has(HOVER_EVENT_CONTENTS)) {
-              final @Nullable JsonElement rawValue = hoverEventObject.get(HOVER_EVENT_CONTENTS);
-              final Class<?> actionType = action.type();
-              if (SerializerFactory.COMPONENT_TYPE.isAssignableFrom(actionType)) {
-                value = this.gson.fromJson(rawValue, SerializerFactory.COMPONENT_TYPE);
-              } else if (SerializerFactory.SHOW_ITEM_TYPE.isAssignableFrom(actionType)) {
-                value = this.gson.fromJson(rawValue, SerializerFactory.SHOW_ITEM_TYPE);
-              } else if (SerializerFactory.SHOW_ENTITY_TYPE.isAssignableFrom(actionType)) {
-                value = this.gson.fromJson(rawValue, SerializerFactory.SHOW_ENTITY_TYPE);
-              } else {
-                value = null;
-              }
-            } else if (hoverEventObject.has(HOVER_EVENT_VALUE)) {
-              final Component rawValue = this.gson.fromJson(hoverEventObject.get(HOVER_EVENT_VALUE), SerializerFactory.COMPONENT_TYPE);
-              value = this.legacyHoverEventContents(action, rawValue);
-            } else {
-              value = null;
-            }
-
-            if (value != null) {
-              style.hoverEvent(HoverEvent.hoverEvent(action, value));
-            }
-          }
+      } else if (fieldName.equals(HOVER_EVENT_VALUE)) {
+        hasLegacyValue = true;
+        legacyValue = null;
+        rawLegacyValue = null;
+        if (in.peek() == JsonToken.NULL) {
+          in.nextNull();
+        } else if (action == null) {
+          rawLegacyValue = this.gson.getAdapter(JsonElement.class).read(in);
+        } else if (action.readable()) {
+          legacyValue = this.componentAdapter().read(in);
+        } else {
+          in.skipValue();
         }
       } else {
         in.skipValue();
       }
     }
-
     in.endObject();
-    return style.build();
+
+    if (action == null || !action.readable()) return;
+    final @Nullable Object value;
+    if (hasContents) {
+      final @Nullable Class<?> contentsType = contentsType(action);
+      if (rawContents != null && !rawContents.isJsonNull() && contentsType != null) {
+        if (this.lazyHover) {
+          style.hoverEvent(HoverEvent.lazyHoverEvent(action, new LazyContents(this, contentsType, rawContents)));
+          return;
+        }
+        value = this.gson.fromJson(rawContents, contentsType);
+      } else {
+        value = contents;
+      }
+    } else if (hasLegacyValue) {
+      final @Nullable Component rawValue = rawLegacyValue != null ? this.gson.fromJson(rawLegacyValue, SerializerFactory.COMPONENT_TYPE) : legacyValue;
+      value = rawValue == null ? null : this.legacyHoverEventContents(action, rawValue);
+    } else {
+      value = null;
+    }
+
+    if (value != null) {
+      style.hoverEvent(HoverEvent.hoverEvent(action, value));
+    }
+  }
+
+  private static @Nullable Class<?> contentsType(final HoverEvent.Action<?> action) {
+    final Class<?> actionType = action.type();
+    if (SerializerFactory.COMPONENT_TYPE.isAssignableFrom(actionType)) {
+      return SerializerFactory.COMPONENT_TYPE;
+    } else if (SerializerFactory.SHOW_ITEM_TYPE.isAssignableFrom(actionType)) {
+      return SerializerFactory.SHOW_ITEM_TYPE;
+    } else if (SerializerFactory.SHOW_ENTITY_TYPE.isAssignableFrom(actionType)) {
+      return SerializerFactory.SHOW_ENTITY_TYPE;
+    }
+    return null;
   }
 
   private boolean readBoolean(final JsonReader in) throws IOException {
@@ -215,9 +327,25 @@ final class StyleSerializer extends TypeAdapter<Style> {
   }
 
   @Override
-  public void write(final JsonWriter out, final Style value) throws IOException {
+  public void write(final JsonWriter out, final @Nullable Style value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+
     out.beginObject();
+    this.writeFields(out, value);
+    out.endObject();
+  }
 
+  /**
+   * Writes the fields of a style into the object currently being written.
+   *
+   * @param out the writer, inside an object
+   * @param value the style to write
+   * @throws IOException if the style could not be written
+   */
+  void writeFields(final JsonWriter out, final Style value) throws IOException {
     for (int i = 0, length = DECORATIONS.length; i < length; i++) {
       final TextDecoration decoration = DECORATIONS[i];
       final TextDecoration.State state = value.decoration(decoration);
@@ -232,7 +360,7 @@ final class StyleSerializer extends TypeAdapter<Style> {
     final @Nullable TextColor color = value.color();
     if (color != null) {
       out.name(COLOR);
-      this.gson.toJson(color, SerializerFactory.COLOR_TYPE, out);
+      this.colorAdapter.write(out, color);
     }
 
     final @Nullable String insertion = value.insertion();
@@ -246,7 +374,7 @@ final class StyleSerializer extends TypeAdapter<Style> {
       out.name(CLICK_EVENT);
       out.beginObject();
       out.name(CLICK_EVENT_ACTION);
-      this.gson.toJson(clickEvent.action(), SerializerFactory.CLICK_ACTION_TYPE, out);
+      this.clickActionAdapter.write(out, clickEvent.action());
       out.name(CLICK_EVENT_VALUE);
       out.value(clickEvent.value());
       out.endObject();
@@ -260,17 +388,20 @@ final class StyleSerializer extends TypeAdapter<Style> {
       final HoverEvent.Action<?> action = hoverEvent.action();
       this.gson.toJson(action, SerializerFactory.HOVER_ACTION_TYPE, out);
       out.name(HOVER_EVENT_CONTENTS);
-      if (action == HoverEvent.Action.SHOW_ITEM) {
+      final @Nullable Supplier<?> pending = hoverEvent.pendingValue();
+      if (!this.downsampleColors && pending instanceof LazyContents && ((LazyContents) pending).serializer == this) {
+        // never looked at, so written back out as it was read
+        this.gson.toJson(((LazyContents) pending).raw, out);
+      } else if (action == HoverEvent.Action.SHOW_ITEM) {
         this.gson.toJson(hoverEvent.value(), SerializerFactory.SHOW_ITEM_TYPE, out);
       } else if (action == HoverEvent.Action.SHOW_ENTITY) {
         this.gson.toJson(hoverEvent.value(), SerializerFactory.SHOW_ENTITY_TYPE, out);
       } else if (action == HoverEvent.Action.SHOW_TEXT) {
-        this.gson.toJson(hoverEvent.value(), SerializerFactory.COMPONENT_TYPE, out);
+        this.componentAdapter().write(out, (Component) hoverEvent.value());
       } else {
         throw new JsonParseException("Don't know how to serialize " + hoverEvent.value());
       }
       if (this.emitLegacyHover) {
-        out.name(HOVER_EVENT_VALUE);
         this.serializeLegacyHoverEvent(hoverEvent, out);
       }
 
@@ -280,33 +411,58 @@ final class StyleSerializer extends TypeAdapter<Style> {
     final @Nullable Key font = value.font();
     if (font != null) {
       out.name(FONT);
-      this.gson.toJson(font, SerializerFactory.KEY_TYPE, out);
+      this.keyAdapter.write(out, font);
     }
-
-    out.endObject();
   }
 
   private void serializeLegacyHoverEvent(final HoverEvent<?> hoverEvent, final JsonWriter out) throws IOException {
+    // a missing value is left out entirely rather than written as null
     if (hoverEvent.action() == HoverEvent.Action.SHOW_TEXT) { // serialization is the same
-      this.gson.toJson(hoverEvent.value(), SerializerFactory.COMPONENT_TYPE, out);
+      out.name(HOVER_EVENT_VALUE);
+      this.componentAdapter().write(out, (Component) hoverEvent.value());
     } else if (this.legacyHover != null) { // for data formats that require knowledge of SNBT
-      Component serialized = null;
-      try {
-        if (hoverEvent.action() == HoverEvent.Action.SHOW_ENTITY) {
-          serialized = this.legacyHover.serializeShowEntity((HoverEvent.ShowEntity) hoverEvent.value(), this.encoder());
-        } else if (hoverEvent.action() == HoverEvent.Action.SHOW_ITEM) {
-          serialized = this.legacyHover.serializeShowItem((HoverEvent.ShowItem) hoverEvent.value());
-        }
-      } catch (final IOException ex) {
-        throw new JsonSyntaxException(ex);
-      }
+      final Object value = hoverEvent.value();
+      final @Nullable Component serialized = value instanceof HoverEvent.ShowEntity || value instanceof HoverEvent.ShowItem
+        ? this.legacyHoverValues.get(value, this::serializeLegacyHoverValue)
+        : null;
       if (serialized != null) {
-        this.gson.toJson(serialized, SerializerFactory.COMPONENT_TYPE, out);
+        out.name(HOVER_EVENT_VALUE);
+        this.componentAdapter().write(out, serialized);
+      }
+    }
+  }
+
+  private @Nullable Component serializeLegacyHoverValue(final Object value) {
+    try {
+      if (value instanceof HoverEvent.ShowEntity) {
+        return this.legacyHover.serializeShowEntity((HoverEvent.ShowEntity) value, this.encoder());
       } else {
-        out.nullValue();
+        return this.legacyHover.serializeShowItem((HoverEvent.ShowItem) value);
       }
-    } else {
-      out.nullValue();
+    } catch (final IOException ex) {
+      throw new JsonSyntaxException(ex);
+    }
+  }
+
+  /**
+   * The contents of a hover event as they were read, decoded when first needed.
+   */
+  static final class LazyContents implements Supplier<Object> {
+    final StyleSerializer serializer;
+    final Class<?> type;
+    final JsonElement raw;
+
+    LazyContents(final StyleSerializer serializer, final Class<?> type, final JsonElement raw) {
+      this.serializer = serializer;
+      this.type = type;
+      this.raw = raw;
+    }
+
+    @Override
+    public Object get() {
+      final @Nullable Object value = this.serializer.gson.fromJson(this.raw, this.type);
+      if (value == null) throw new JsonParseException("Don't know how to turn " + this.raw + " into hover event contents");
+      return value;
     }
   }
 }
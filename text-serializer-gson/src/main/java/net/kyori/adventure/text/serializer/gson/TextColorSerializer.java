@@ -37,6 +37,9 @@ final class TextColorSerializer extends TypeAdapter<TextColor> {
   static final TypeAdapter<TextColor> INSTANCE = new TextColorSerializer(false).nullSafe();
   static final TypeAdapter<TextColor> DOWNSAMPLE_COLOR = new TextColorSerializer(true).nullSafe();
 
+  // downsampling measures the distance to every named color, so results are remembered
+  private static final BoundedCache<TextColor, NamedTextColor> DOWNSAMPLED = new BoundedCache<>(4096);
+
   private final boolean downsampleColor;
 
   private TextColorSerializer(final boolean downsampleColor) {
@@ -48,7 +51,7 @@ final class TextColorSerializer extends TypeAdapter<TextColor> {
     if (value instanceof NamedTextColor) {
       out.value(NamedTextColor.NAMES.key((NamedTextColor) value));
     } else if (this.downsampleColor) {
-      out.value(NamedTextColor.NAMES.key(NamedTextColor.nearestTo(value)));
+      out.value(NamedTextColor.NAMES.key(downsample(value)));
     } else {
       out.value(asUpperCaseHexString(value));
     }
@@ -63,7 +66,12 @@ final class TextColorSerializer extends TypeAdapter<TextColor> {
     final @Nullable TextColor color = fromString(in.nextString());
     if (color == null) return null;
 
-    return this.downsampleColor ? NamedTextColor.nearestTo(color) : color;
+    return this.downsampleColor ? downsample(color) : color;
+  }
+
+  static NamedTextColor downsample(final TextColor color) {
+    if (color instanceof NamedTextColor) return (NamedTextColor) color;
+    return DOWNSAMPLED.get(color, NamedTextColor::nearestTo);
   }
 
   static @Nullable TextColor fromString(final @NotNull String value) {
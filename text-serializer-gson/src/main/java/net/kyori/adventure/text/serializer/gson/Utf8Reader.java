@@ -0,0 +1,90 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2022 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text.serializer.gson;
+
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A reader decoding UTF-8 straight out of a byte buffer, without an intermediate string.
+ *
+ * <p>Reading advances the position of the buffer. Malformed input is replaced,
+ * as {@link String#String(byte[], java.nio.charset.Charset)} does.</p>
+ */
+final class Utf8Reader extends Reader {
+  private static final int NO_CHAR = -1;
+
+  private final ByteBuffer in;
+  private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+    .onMalformedInput(CodingErrorAction.REPLACE)
+    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+  private boolean eof;
+  private int pending = NO_CHAR;
+
+  Utf8Reader(final ByteBuffer in) {
+    this.in = in;
+  }
+
+  @Override
+  public int read(final char[] cbuf, final int off, final int len) {
+    if (len == 0) return 0;
+    int read = 0;
+    if (this.pending != NO_CHAR) {
+      cbuf[off] = (char) this.pending;
+      this.pending = NO_CHAR;
+      read++;
+    }
+    if (read < len && !this.eof) {
+      final CharBuffer out = CharBuffer.wrap(cbuf, off + read, len - read);
+      this.decode(out);
+      read = out.position() - off;
+      if (read == 0 && !this.eof) {
+        // a surrogate pair does not fit into a single char of space, so split it
+        final CharBuffer pair = CharBuffer.allocate(2);
+        this.decode(pair);
+        pair.flip();
+        if (pair.hasRemaining()) {
+          cbuf[off] = pair.get();
+          read = 1;
+          if (pair.hasRemaining()) this.pending = pair.get();
+        }
+      }
+    }
+    return read == 0 && this.eof ? -1 : read;
+  }
+
+  private void decode(final CharBuffer out) {
+    if (this.decoder.decode(this.in, out, true).isUnderflow() && this.decoder.flush(out).isUnderflow()) {
+      this.eof = true;
+    }
+  }
+
+  @Override
+  public void close() {
+  }
+}
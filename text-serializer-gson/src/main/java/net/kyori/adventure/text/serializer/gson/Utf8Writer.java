@@ -0,0 +1,171 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2022 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text.serializer.gson;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A writer encoding characters as UTF-8 straight into a byte sink, without an intermediate string.
+ *
+ * <p>Bytes are staged in a small buffer and pushed to the output stream or byte buffer when it fills up.
+ * Without either target the buffer grows instead, and the result is available from {@link #toByteArray()}.</p>
+ *
+ * <p>Unpaired surrogates are encoded as {@code ?}, as {@link String#getBytes(java.nio.charset.Charset)} does.</p>
+ */
+final class Utf8Writer extends Writer {
+  private static final int BUFFER_SIZE = 512;
+  private static final int NO_SURROGATE = -1;
+
+  private final @Nullable OutputStream out;
+  private final @Nullable ByteBuffer target;
+  private byte[] buffer = new byte[BUFFER_SIZE];
+  private int length;
+  private int highSurrogate = NO_SURROGATE;
+
+  Utf8Writer() {
+    this.out = null;
+    this.target = null;
+  }
+
+  Utf8Writer(final OutputStream out) {
+    this.out = out;
+    this.target = null;
+  }
+
+  Utf8Writer(final ByteBuffer target) {
+    this.out = null;
+    this.target = target;
+  }
+
+  @Override
+  public void write(final int c) throws IOException {
+    this.encode((char) c);
+  }
+
+  @Override
+  public void write(final char[] cbuf, final int off, final int len) throws IOException {
+    for (int i = off, end = off + len; i < end; i++) {
+      this.encode(cbuf[i]);
+    }
+  }
+
+  @Override
+  public void write(final String str, final int off, final int len) throws IOException {
+    for (int i = off, end = off + len; i < end; i++) {
+      this.encode(str.charAt(i));
+    }
+  }
+
+  private void encode(final char c) throws IOException {
+    if (this.length + 4 > this.buffer.length) this.drain();
+    final byte[] buffer = this.buffer;
+    if (this.highSurrogate != NO_SURROGATE) {
+      final char high = (char) this.highSurrogate;
+      this.highSurrogate = NO_SURROGATE;
+      if (Character.isLowSurrogate(c)) {
+        final int cp = Character.toCodePoint(high, c);
+        buffer[this.length++] = (byte) (0xf0 | (cp >> 18));
+        buffer[this.length++] = (byte) (0x80 | ((cp >> 12) & 0x3f));
+        buffer[this.length++] = (byte) (0x80 | ((cp >> 6) & 0x3f));
+        buffer[this.length++] = (byte) (0x80 | (cp & 0x3f));
+        return;
+      }
+      buffer[this.length++] = '?';
+      this.encode(c);
+      return;
+    }
+
+    if (c < 0x80) {
+      buffer[this.length++] = (byte) c;
+    } else if (c < 0x800) {
+      buffer[this.length++] = (byte) (0xc0 | (c >> 6));
+      buffer[this.length++] = (byte) (0x80 | (c & 0x3f));
+    } else if (Character.isHighSurrogate(c)) {
+      this.highSurrogate = c;
+    } else if (Character.isLowSurrogate(c)) {
+      buffer[this.length++] = '?';
+    } else {
+      buffer[this.length++] = (byte) (0xe0 | (c >> 12));
+      buffer[this.length++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+      buffer[this.length++] = (byte) (0x80 | (c & 0x3f));
+    }
+  }
+
+  private void drain() throws IOException {
+    if (this.out != null) {
+      this.out.write(this.buffer, 0, this.length);
+      this.length = 0;
+    } else if (this.target != null) {
+      this.target.put(this.buffer, 0, this.length);
+      this.length = 0;
+    } else {
+      this.buffer = Arrays.copyOf(this.buffer, this.buffer.length << 1);
+    }
+  }
+
+  /**
+   * Completes the output, pushing any staged bytes to the target.
+   *
+   * <p>The underlying output stream is flushed, but never closed.</p>
+   *
+   * @throws IOException if the output stream could not be written to
+   */
+  void finish() throws IOException {
+    if (this.highSurrogate != NO_SURROGATE) {
+      this.highSurrogate = NO_SURROGATE;
+      if (this.length + 1 > this.buffer.length) this.drain();
+      this.buffer[this.length++] = '?';
+    }
+    if (this.out != null || this.target != null) {
+      this.drain();
+    }
+    if (this.out != null) {
+      this.out.flush();
+    }
+  }
+
+  byte[] toByteArray() {
+    return Arrays.copyOf(this.buffer, this.length);
+  }
+
+  @Override
+  public void flush() throws IOException {
+    if (this.out != null || this.target != null) {
+      this.drain();
+    }
+    if (this.out != null) {
+      this.out.flush();
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    this.finish();
+  }
+}
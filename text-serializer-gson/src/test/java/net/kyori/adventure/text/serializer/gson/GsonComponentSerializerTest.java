@@ -26,15 +26,36 @@ package net.kyori.adventure.text.serializer.gson;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonParseException;
 import com.google.gson.JsonPrimitive;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import net.kyori.adventure.key.Key;
 import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.event.HoverEvent;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.text.format.TextColor;
+import net.kyori.adventure.util.Codec;
+import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.junit.jupiter.api.Test;
 
 import static net.kyori.adventure.text.serializer.gson.GsonTest.array;
 import static net.kyori.adventure.text.serializer.gson.GsonTest.object;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -79,6 +100,18 @@ class GsonComponentSerializerTest {
     assertEquals("{\"extra\":[{\"color\":\"" + name(downsampled) + "\",\"text\":\"there\"}],\"text\":\"hey\"}", GsonComponentSerializer.colorDownsamplingGson().serializer().toJson(test));
   }
 
+  @Test
+  void testPre116DownsamplesRepeatedly() {
+    // more colors than are remembered, twice over
+    for (int pass = 0; pass < 2; pass++) {
+      for (int value = 0; value < 0xFFFFFF; value += 0x3FF) {
+        final TextColor original = TextColor.color(value);
+        final Component test = Component.text("meow", original);
+        assertEquals("{\"color\":\"" + name(NamedTextColor.nearestTo(original)) + "\",\"text\":\"meow\"}", GsonComponentSerializer.colorDownsamplingGson().serialize(test));
+      }
+    }
+  }
+
   // https://github.com/KyoriPowered/adventure/issues/447
   @Test
   void testDeserializeJsonNull() {
@@ -90,7 +123,197 @@ class GsonComponentSerializerTest {
     assertEquals("Don't know how to turn null into a Component", ex.getMessage());
   }
 
+  @Test
+  void testSerializeToBytes() throws IOException {
+    final Component test = Component.text("caf\u00e9 \u2603 \ud83d\ude00", NamedTextColor.GOLD)
+      .append(Component.translatable("chat.type.text", Component.text("\ud83d"), Component.text(repeat('x', 2048))));
+    final byte[] expected = GsonComponentSerializer.gson().serialize(test).getBytes(StandardCharsets.UTF_8);
+
+    assertArrayEquals(expected, GsonComponentSerializer.gson().serializeToBytes(test));
+
+    final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+    GsonComponentSerializer.gson().serializeToBytes(test, stream);
+    assertArrayEquals(expected, stream.toByteArray());
+
+    final ByteBuffer buffer = ByteBuffer.allocate(expected.length + 2);
+    buffer.put((byte) '!');
+    GsonComponentSerializer.gson().serializeToBytes(test, buffer);
+    assertEquals(expected.length + 1, buffer.position());
+    assertArrayEquals(expected, Arrays.copyOfRange(buffer.array(), 1, expected.length + 1));
+
+    final ByteBuffer small = ByteBuffer.allocate(expected.length - 1);
+    assertThrows(BufferOverflowException.class, () -> GsonComponentSerializer.gson().serializeToBytes(test, small));
+    assertEquals(0, small.position());
+  }
+
+  @Test
+  void testDeserializeFromBytes() {
+    final Component test = Component.text("caf\u00e9 \u2603 \ud83d\ude00", NamedTextColor.GOLD)
+      .append(Component.text(repeat('\u00e9', 2048)));
+    final byte[] bytes = GsonComponentSerializer.gson().serialize(test).getBytes(StandardCharsets.UTF_8);
+
+    assertEquals(test, GsonComponentSerializer.gson().deserializeFromBytes(bytes));
+
+    final ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+    buffer.put(bytes).flip();
+    assertEquals(test, GsonComponentSerializer.gson().deserializeFromBytes(buffer));
+    assertEquals(buffer.limit(), buffer.position());
+
+    final JsonParseException ex = assertThrows(JsonParseException.class, () -> GsonComponentSerializer.gson().deserializeFromBytes("null".getBytes(StandardCharsets.UTF_8)));
+    assertEquals("Don't know how to turn null into a Component", ex.getMessage());
+  }
+
+  @Test
+  void testLazyHoverEvents() {
+    final GsonComponentSerializer lazy = GsonComponentSerializer.builder().lazyHoverEvents().build();
+    final String input = "{\"hoverEvent\":{\"action\":\"show_text\",\"contents\":\"raw\"},\"text\":\"hi\"}";
+
+    final Component component = lazy.deserialize(input);
+    final HoverEvent<?> hoverEvent = component.hoverEvent();
+    assertNotNull(hoverEvent);
+    assertNotNull(hoverEvent.pendingValue());
+    // passed through as it was read
+    assertEquals(input, lazy.serialize(component));
+    assertNotNull(hoverEvent.pendingValue());
+
+    assertEquals(GsonComponentSerializer.gson().deserialize(input), component);
+    assertNull(hoverEvent.pendingValue());
+    assertEquals(Component.text("raw"), hoverEvent.value());
+    assertEquals(GsonComponentSerializer.gson().serialize(component), lazy.serialize(component));
+  }
+
+  @Test
+  void testLazyHoverEventsDownsampleColors() {
+    final GsonComponentSerializer eager = GsonComponentSerializer.builder().downsampleColors().emitLegacyHoverEvent().build();
+    final GsonComponentSerializer lazy = GsonComponentSerializer.builder().downsampleColors().emitLegacyHoverEvent().lazyHoverEvents().build();
+    final String input = "{\"hoverEvent\":{\"action\":\"show_text\",\"contents\":{\"color\":\"#ff5556\",\"text\":\"raw\"}},\"text\":\"hi\"}";
+
+    final Component component = lazy.deserialize(input);
+    final String output = lazy.serialize(component);
+    assertEquals(eager.serialize(eager.deserialize(input)), output);
+    assertTrue(output.contains("\"red\""), output);
+  }
+
+  @Test
+  void testHoverEventFieldOrder() {
+    final GsonComponentSerializer lazy = GsonComponentSerializer.builder().lazyHoverEvents().build();
+    final Component expected = Component.text("hi").hoverEvent(HoverEvent.showText(Component.text("raw", NamedTextColor.RED)));
+    final String[] inputs = {
+      "{\"hoverEvent\":{\"action\":\"show_text\",\"contents\":{\"color\":\"red\",\"text\":\"raw\"}},\"text\":\"hi\"}",
+      "{\"hoverEvent\":{\"contents\":{\"color\":\"red\",\"text\":\"raw\"},\"action\":\"show_text\"},\"text\":\"hi\"}",
+      "{\"hoverEvent\":{\"value\":{\"color\":\"red\",\"text\":\"raw\"},\"action\":\"show_text\"},\"text\":\"hi\"}",
+      "{\"hoverEvent\":{\"unknown\":[1,2],\"action\":\"show_text\",\"value\":{\"color\":\"red\",\"text\":\"raw\"}},\"text\":\"hi\"}",
+    };
+
+    for (final String input : inputs) {
+      assertEquals(expected, GsonComponentSerializer.gson().deserialize(input), input);
+      assertEquals(expected, lazy.deserialize(input), input);
+    }
+  }
+
+  @Test
+  void testDeserializeAll() {
+    final List<String> inputs = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      inputs.add(GsonComponentSerializer.gson().serialize(Component.text(i, i % 2 == 0 ? NamedTextColor.RED : null)));
+    }
+    final List<Component> expected = inputs.stream().map(GsonComponentSerializer.gson()::deserialize).collect(Collectors.toList());
+
+    assertEquals(expected, GsonComponentSerializer.gson().deserializeAll(inputs));
+    assertEquals(expected, GsonComponentSerializer.gson().deserializeAll(inputs.stream().parallel()).collect(Collectors.toList()));
+
+    final ExecutorService executor = Executors.newFixedThreadPool(3);
+    try {
+      assertEquals(expected, GsonComponentSerializer.gson().deserializeAll(inputs, executor, (input, ex) -> null));
+
+      inputs.set(500, "{\"text\":");
+      final JsonParseException ex = assertThrows(JsonParseException.class, () -> GsonComponentSerializer.gson().deserializeAll(inputs));
+      final List<Component> captured = GsonComponentSerializer.gson().deserializeAll(inputs, executor, (input, error) -> Component.text(error.getClass().getSimpleName()));
+      assertEquals(Component.text(ex.getClass().getSimpleName()), captured.get(500));
+      assertEquals(expected.get(499), captured.get(499));
+      assertEquals(expected.get(501), captured.get(501));
+
+      // every chunk fails, and all of them have finished by the time the first failure is thrown
+      final List<String> malformed = Collections.nCopies(inputs.size(), "{\"text\":");
+      final AtomicInteger failures = new AtomicInteger();
+      final IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> GsonComponentSerializer.gson().deserializeAll(malformed, executor, (input, error) -> {
+        failures.incrementAndGet();
+        throw new IllegalStateException(error);
+      }));
+      assertEquals(failures.get(), 1 + thrown.getSuppressed().length);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void testLegacyHoverValuesMatchUncached() {
+    final CountingLegacyHoverSerializer legacy = new CountingLegacyHoverSerializer();
+    final GsonComponentSerializer serializer = GsonComponentSerializer.builder().legacyHoverEventSerializer(legacy).emitLegacyHoverEvent().build();
+    final Component item = Component.text("item").hoverEvent(HoverEvent.showItem(Key.key("diamond_sword"), 3));
+    final Component entity = Component.text("entity").hoverEvent(HoverEvent.showEntity(Key.key("zombie"), UUID.fromString("eb121687-8b1a-4944-bd4d-e0a818d9dfe2"), Component.text("Bob")));
+    final String uncachedItem = uncachedLegacyHover(item);
+    final String uncachedEntity = uncachedLegacyHover(entity);
+
+    // within the bound, each value is only encoded once
+    for (int i = 0; i < 3; i++) {
+      assertEquals(uncachedItem, serializer.serialize(item));
+      assertEquals(uncachedEntity, serializer.serialize(entity));
+    }
+    assertEquals(1, legacy.items.get());
+    assertEquals(1, legacy.entities.get());
+
+    // past the bound, values are encoded again with the same result
+    for (int i = 0; i < StyleSerializer.MAXIMUM_CACHED_LEGACY_HOVER_VALUES; i++) {
+      final Component other = Component.text("other").hoverEvent(HoverEvent.showItem(Key.key("stone"), i + 1));
+      assertEquals(uncachedLegacyHover(other), serializer.serialize(other));
+    }
+    assertEquals(uncachedItem, serializer.serialize(item));
+    assertEquals(uncachedEntity, serializer.serialize(entity));
+    assertEquals(2 + StyleSerializer.MAXIMUM_CACHED_LEGACY_HOVER_VALUES, legacy.items.get());
+    assertEquals(2, legacy.entities.get());
+  }
+
+  // a fresh serializer has nothing cached
+  private static String uncachedLegacyHover(final Component component) {
+    return GsonComponentSerializer.builder().legacyHoverEventSerializer(new CountingLegacyHoverSerializer()).emitLegacyHoverEvent().build().serialize(component);
+  }
+
+  private static String repeat(final char c, final int count) {
+    final char[] chars = new char[count];
+    Arrays.fill(chars, c);
+    return new String(chars);
+  }
+
   private static String name(final NamedTextColor color) {
     return NamedTextColor.NAMES.key(color);
   }
+
+  static final class CountingLegacyHoverSerializer implements LegacyHoverEventSerializer {
+    final AtomicInteger items = new AtomicInteger();
+    final AtomicInteger entities = new AtomicInteger();
+
+    @Override
+    public HoverEvent.@NotNull ShowItem deserializeShowItem(final @NotNull Component input) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public HoverEvent.@NotNull ShowEntity deserializeShowEntity(final @NotNull Component input, final Codec.Decoder<Component, String, ? extends RuntimeException> componentDecoder) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public @NotNull Component serializeShowItem(final HoverEvent.@NotNull ShowItem input) {
+      this.items.incrementAndGet();
+      return Component.text(input.item().asString() + " x" + input.count());
+    }
+
+    @Override
+    public @NotNull Component serializeShowEntity(final HoverEvent.@NotNull ShowEntity input, final Codec.Encoder<Component, String, ? extends RuntimeException> componentEncoder) {
+      this.entities.incrementAndGet();
+      final Component name = input.name();
+      return Component.text(input.type().asString() + " " + input.id() + (name == null ? "" : " " + componentEncoder.encode(name)));
+    }
+  }
 }
@@ -1,10 +1,12 @@
 plugins {
   id("adventure.common-conventions")
+  alias(libs.plugins.jmh)
 }
 
 dependencies {
   api(projects.adventureApi)
   annotationProcessor(projects.adventureAnnotationProcessors)
+  jmhImplementation(testFixtures(projects.adventureApi))
 }
 
 applyJarMetadata("net.kyori.adventure.text.serializer.legacy")
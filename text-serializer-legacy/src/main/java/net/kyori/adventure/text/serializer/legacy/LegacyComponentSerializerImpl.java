@@ -58,6 +58,8 @@ final class LegacyComponentSerializerImpl implements LegacyComponentSerializer {
   private static final char LEGACY_BUNGEE_HEX_CHAR = 'x';
   private static final List<TextFormat> FORMATS;
   private static final String LEGACY_CHARS;
+  // formats indexed by their legacy character, all of which are ascii
+  private static final TextFormat[] FORMATS_BY_CHAR = new TextFormat[128];
 
   static {
     // Enumeration order may change - manually
@@ -96,6 +98,10 @@ final class LegacyComponentSerializerImpl implements LegacyComponentSerializer {
     if (FORMATS.size() != LEGACY_CHARS.length()) {
       throw new IllegalStateException("FORMATS length differs from LEGACY_CHARS length");
     }
+
+    for (int i = 0, length = LEGACY_CHARS.length(); i < length; i++) {
+      FORMATS_BY_CHAR[LEGACY_CHARS.charAt(i)] = FORMATS.get(i);
+    }
   }
 
   private static final Optional<Provider> SERVICE = Services.service(Provider.class);
@@ -145,16 +151,19 @@ final class LegacyComponentSerializerImpl implements LegacyComponentSerializer {
     }
     if (legacy == this.hexCharacter && input.length() - pos >= 6) {
       return FormatCodeType.KYORI_HEX;
-    } else if (LEGACY_CHARS.indexOf(legacy) != -1) {
+    } else if (format(legacy) != null) {
       return FormatCodeType.MOJANG_LEGACY;
     }
     return null;
   }
 
+  private static @Nullable TextFormat format(final char legacy) {
+    return legacy < FORMATS_BY_CHAR.length ? FORMATS_BY_CHAR[legacy] : null;
+  }
+
   static @Nullable LegacyFormat legacyFormat(final char character) {
-    final int index = LEGACY_CHARS.indexOf(character);
-    if (index != -1) {
-      final TextFormat format = FORMATS.get(index);
+    final TextFormat format = format(character);
+    if (format != null) {
       if (format instanceof NamedTextColor) {
         return new LegacyFormat((NamedTextColor) format);
       } else if (format instanceof TextDecoration) {
@@ -166,38 +175,35 @@ final class LegacyComponentSerializerImpl implements LegacyComponentSerializer {
     return null;
   }
 
-  private @Nullable DecodedFormat decodeTextFormat(final char legacy, final String input, final int pos) {
-    final FormatCodeType foundFormat = this.determineFormatType(legacy, input, pos);
-    if (foundFormat == null) {
-      return null;
-    }
-    if (foundFormat == FormatCodeType.KYORI_HEX) {
-      final @Nullable TextColor parsed = tryParseHexColor(input.substring(pos, pos + 6));
-      if (parsed != null) {
-        return new DecodedFormat(foundFormat, parsed);
-      }
-    } else if (foundFormat == FormatCodeType.MOJANG_LEGACY) {
-      return new DecodedFormat(foundFormat, FORMATS.get(LEGACY_CHARS.indexOf(legacy)));
-    } else if (foundFormat == FormatCodeType.BUNGEECORD_UNUSUAL_HEX) {
-      final StringBuilder foundHex = new StringBuilder(6);
-      for (int i = pos - 1; i >= pos - 11; i -= 2) {
-        foundHex.append(input.charAt(i));
-      }
-      final @Nullable TextColor parsed = tryParseHexColor(foundHex.reverse().toString());
-      if (parsed != null) {
-        return new DecodedFormat(foundFormat, parsed);
-      }
+  private static @Nullable TextFormat decodeTextFormat(final FormatCodeType type, final char legacy, final String input, final int pos) {
+    switch (type) {
+      case KYORI_HEX:
+        return tryParseHexColor(input, pos, 1);
+      case MOJANG_LEGACY:
+        return format(legacy);
+      case BUNGEECORD_UNUSUAL_HEX:
+        // every other character of the sequence, ending with the character of this format code
+        return tryParseHexColor(input, pos - 11, 2);
+      default:
+        return null;
     }
-    return null;
   }
 
-  private static @Nullable TextColor tryParseHexColor(final String hexDigits) {
-    try {
-      final int color = Integer.parseInt(hexDigits, 16);
-      return TextColor.color(color);
-    } catch (final NumberFormatException ex) {
-      return null;
+  // reads six digits the way Integer.parseInt would, including an optional leading sign
+  private static @Nullable TextColor tryParseHexColor(final String input, final int start, final int step) {
+    int index = start;
+    final char first = input.charAt(index);
+    final boolean negative = first == '-';
+    if (negative || first == '+') {
+      index += step;
+    }
+    int color = 0;
+    for (final int end = start + 6 * step; index < end; index += step) {
+      final int digit = Character.digit(input.charAt(index), 16);
+      if (digit == -1) return null;
+      color = color << 4 | digit;
     }
+    return TextColor.color(negative ? -color : color);
   }
 
   private static boolean isHexTextColor(final TextFormat format) {
@@ -230,8 +236,11 @@ final class LegacyComponentSerializerImpl implements LegacyComponentSerializer {
     return Character.toString(LEGACY_CHARS.charAt(index));
   }
 
-  private TextComponent extractUrl(final TextComponent component) {
+  private TextComponent extractUrl(final TextComponent component, final String input) {
     if (this.urlReplacementConfig == null) return component;
+    // the default pattern has no anchors or lookaround, so when nothing in the whole input matches
+    // then nothing in any component can, and the replacement would leave the tree untouched
+    if (this.urlReplacementConfig.matchPattern() == DEFAULT_URL_PATTERN && !DEFAULT_URL_PATTERN.matcher(input).find()) return component;
     final Component newComponent = component.replaceText(this.urlReplacementConfig);
     if (newComponent instanceof TextComponent) return (TextComponent) newComponent;
     return Component.text().append(newComponent).build();
@@ -241,7 +250,7 @@ final class LegacyComponentSerializerImpl implements LegacyComponentSerializer {
   public @NotNull TextComponent deserialize(final @NotNull String input) {
     int next = input.lastIndexOf(this.character, input.length() - 2);
     if (next == -1) {
-      return this.extractUrl(Component.text(input));
+      return this.extractUrl(Component.text(input), input);
     }
 
     final List<TextComponent> parts = new ArrayList<>();
@@ -251,9 +260,11 @@ final class LegacyComponentSerializerImpl implements LegacyComponentSerializer {
 
     int pos = input.length();
     do {
-      final DecodedFormat decoded = this.decodeTextFormat(input.charAt(next + 1), input, next + 2);
-      if (decoded != null) {
-        final int from = next + (decoded.encodedFormat == FormatCodeType.KYORI_HEX ? 8 : 2);
+      final char legacy = input.charAt(next + 1);
+      final @Nullable FormatCodeType type = this.determineFormatType(legacy, input, next + 2);
+      final @Nullable TextFormat format = type == null ? null : decodeTextFormat(type, legacy, input, next + 2);
+      if (format != null) {
+        final int from = next + (type == FormatCodeType.KYORI_HEX ? 8 : 2);
         if (from != pos) {
           if (current != null) {
             if (reset) {
@@ -273,9 +284,9 @@ final class LegacyComponentSerializerImpl implements LegacyComponentSerializer {
         }
 
         if (!reset) {
-          reset = applyFormat(current, decoded.format);
+          reset = applyFormat(current, format);
         }
-        if (decoded.encodedFormat == FormatCodeType.BUNGEECORD_UNUSUAL_HEX) {
+        if (type == FormatCodeType.BUNGEECORD_UNUSUAL_HEX) {
           // BungeeCord hex characters are a repeating set of characters, all of which are also valid
           // legacy Mojang chat colors. Subtract the number of characters in the format, and only then
           // skip ahead.
@@ -293,10 +304,10 @@ final class LegacyComponentSerializerImpl implements LegacyComponentSerializer {
 
     final String remaining = pos > 0 ? input.substring(0, pos) : "";
     if (parts.size() == 1 && remaining.isEmpty()) {
-      return this.extractUrl(parts.get(0));
+      return this.extractUrl(parts.get(0), input);
     } else {
       Collections.reverse(parts);
-      return this.extractUrl(Component.text().content(remaining).append(parts).build());
+      return this.extractUrl(Component.text().content(remaining).append(parts).build(), input);
     }
   }
 
@@ -574,17 +585,4 @@ final class LegacyComponentSerializerImpl implements LegacyComponentSerializer {
     KYORI_HEX,
     BUNGEECORD_UNUSUAL_HEX;
   }
-
-  static final class DecodedFormat {
-    final FormatCodeType encodedFormat;
-    final TextFormat format;
-
-    private DecodedFormat(final FormatCodeType encodedFormat, final TextFormat format) {
-      if (format == null) {
-        throw new IllegalStateException("No format found");
-      }
-      this.encodedFormat = encodedFormat;
-      this.format = format;
-    }
-  }
 }
@@ -179,6 +179,15 @@ class LegacyComponentSerializerTest {
     assertEquals(component, LegacyComponentSerializer.builder().character('&').hexColors().build().deserialize("&#ffb6c1pretty&#ff69b4&lin&#ffc0cbpink"));
   }
 
+  @Test
+  void testFromLegacyWithUppercaseHexColor() {
+    final TextComponent expected = Component.text().content("")
+      .append(Component.text("Hugs and ", TextColor.color(0xffb6c1)))
+      .append(Component.text("Kittens!", TextColor.color(0xffefd5)))
+      .build();
+    assertEquals(expected, LegacyComponentSerializer.builder().hexColors().build().deserialize("§#FFB6C1Hugs and §x§F§F§E§F§D§5Kittens!"));
+  }
+
   @Test
   void testToLegacyWithHexColorTerribleFormat() {
     final TextComponent c0 = Component.text("Kittens!", TextColor.color(0xffefd5));
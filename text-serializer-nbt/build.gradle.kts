@@ -0,0 +1,13 @@
+plugins {
+  id("adventure.common-conventions")
+}
+
+dependencies {
+  api(projects.adventureApi)
+  api(projects.adventureNbt)
+  testImplementation(projects.adventureTextSerializerGson)
+  testImplementation(testFixtures(projects.adventureApi))
+  annotationProcessor(projects.adventureAnnotationProcessors)
+}
+
+applyJarMetadata("net.kyori.adventure.text.serializer.nbt")
@@ -0,0 +1,89 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2022 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text.serializer.nbt;
+
+import net.kyori.adventure.nbt.BinaryTag;
+import net.kyori.adventure.nbt.BinaryTagIO;
+import net.kyori.adventure.nbt.CompoundBinaryTag;
+import net.kyori.adventure.nbt.StringBinaryTag;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.serializer.ComponentSerializer;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A binary tag component serializer.
+ *
+ * <p>Components are mapped onto {@link CompoundBinaryTag}s using the same field names as the
+ * JSON format, so they can be stored in NBT data or written with {@link BinaryTagIO} without
+ * going through JSON text first. Components made of nothing but unstyled text are collapsed
+ * to a {@link StringBinaryTag}.</p>
+ *
+ * @since 4.13.0
+ */
+public interface NBTComponentSerializer extends ComponentSerializer<Component, Component, BinaryTag> {
+  /**
+   * Gets a component serializer for binary tag serialization and deserialization.
+   *
+   * @return a binary tag component serializer
+   * @since 4.13.0
+   */
+  static @NotNull NBTComponentSerializer nbt() {
+    return NBTComponentSerializerImpl.INSTANCE;
+  }
+
+  /**
+   * Deserialize a component from a binary tag.
+   *
+   * <p>Besides compounds, a string tag is read as a text component, and a list tag as its
+   * first component with the remaining components appended as children.</p>
+   *
+   * @param input the binary tag
+   * @return the component
+   * @throws IllegalArgumentException if the tag does not describe a component
+   * @since 4.13.0
+   */
+  @Override
+  @NotNull Component deserialize(final @NotNull BinaryTag input);
+
+  /**
+   * Serialize a component to a binary tag.
+   *
+   * @param component the component
+   * @return a {@link StringBinaryTag} for unstyled text without children, a {@link CompoundBinaryTag} otherwise
+   * @since 4.13.0
+   */
+  @Override
+  @NotNull BinaryTag serialize(final @NotNull Component component);
+
+  /**
+   * Serialize a component to a compound binary tag, never collapsing it to a string.
+   *
+   * <p>This is the form to use as the root tag with {@link BinaryTagIO}.</p>
+   *
+   * @param component the component
+   * @return the compound binary tag
+   * @since 4.13.0
+   */
+  @NotNull CompoundBinaryTag serializeToCompound(final @NotNull Component component);
+}
@@ -0,0 +1,468 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2022 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text.serializer.nbt;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import net.kyori.adventure.key.Key;
+import net.kyori.adventure.nbt.BinaryTag;
+import net.kyori.adventure.nbt.CompoundBinaryTag;
+import net.kyori.adventure.nbt.IntArrayBinaryTag;
+import net.kyori.adventure.nbt.ListBinaryTag;
+import net.kyori.adventure.nbt.NumberBinaryTag;
+import net.kyori.adventure.nbt.StringBinaryTag;
+import net.kyori.adventure.nbt.TagStringIO;
+import net.kyori.adventure.nbt.api.BinaryTagHolder;
+import net.kyori.adventure.text.BlockNBTComponent;
+import net.kyori.adventure.text.BuildableComponent;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.ComponentBuilder;
+import net.kyori.adventure.text.EntityNBTComponent;
+import net.kyori.adventure.text.KeybindComponent;
+import net.kyori.adventure.text.NBTComponent;
+import net.kyori.adventure.text.NBTComponentBuilder;
+import net.kyori.adventure.text.ScoreComponent;
+import net.kyori.adventure.text.SelectorComponent;
+import net.kyori.adventure.text.StorageNBTComponent;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.TranslatableComponent;
+import net.kyori.adventure.text.event.ClickEvent;
+import net.kyori.adventure.text.event.HoverEvent;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.Style;
+import net.kyori.adventure.text.format.TextColor;
+import net.kyori.adventure.text.format.TextDecoration;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+final class NBTComponentSerializerImpl implements NBTComponentSerializer {
+  static final NBTComponentSerializer INSTANCE = new NBTComponentSerializerImpl();
+
+  // component fields, named as in the json format
+  static final String TEXT = "text";
+  static final String TRANSLATE = "translate";
+  static final String TRANSLATE_WITH = "with";
+  static final String SCORE = "score";
+  static final String SCORE_NAME = "name";
+  static final String SCORE_OBJECTIVE = "objective";
+  static final String SCORE_VALUE = "value";
+  static final String SELECTOR = "selector";
+  static final String KEYBIND = "keybind";
+  static final String EXTRA = "extra";
+  static final String NBT = "nbt";
+  static final String NBT_INTERPRET = "interpret";
+  static final String NBT_BLOCK = "block";
+  static final String NBT_ENTITY = "entity";
+  static final String NBT_STORAGE = "storage";
+  static final String SEPARATOR = "separator";
+
+  // style fields
+  static final String FONT = "font";
+  static final String COLOR = "color";
+  static final String INSERTION = "insertion";
+  static final String CLICK_EVENT = "clickEvent";
+  static final String CLICK_EVENT_ACTION = "action";
+  static final String CLICK_EVENT_VALUE = "value";
+  static final String HOVER_EVENT = "hoverEvent";
+  static final String HOVER_EVENT_ACTION = "action";
+  static final String HOVER_EVENT_CONTENTS = "contents";
+
+  // hover event contents
+  static final String SHOW_ITEM_ID = "id";
+  static final String SHOW_ITEM_COUNT = "count";
+  static final String SHOW_ITEM_TAG = "tag";
+  static final String SHOW_ENTITY_TYPE = "type";
+  static final String SHOW_ENTITY_ID = "id";
+  static final String SHOW_ENTITY_NAME = "name";
+
+  private static final TextDecoration[] DECORATIONS = TextDecoration.values();
+
+  private NBTComponentSerializerImpl() {
+  }
+
+  @Override
+  public @NotNull Component deserialize(final @NotNull BinaryTag input) {
+    return this.read(input);
+  }
+
+  private BuildableComponent<?, ?> read(final BinaryTag input) {
+    if (input instanceof StringBinaryTag) {
+      return Component.text(((StringBinaryTag) input).value());
+    } else if (input instanceof ListBinaryTag) {
+      final ListBinaryTag list = (ListBinaryTag) input;
+      if (list.size() == 0) throw notSureHowToDeserialize(input);
+      final ComponentBuilder<?, ?> parent = this.read(list.get(0)).toBuilder();
+      for (int i = 1, size = list.size(); i < size; i++) {
+        parent.append(this.deserialize(list.get(i)));
+      }
+      return parent.build();
+    } else if (input instanceof CompoundBinaryTag) {
+      return this.readCompound((CompoundBinaryTag) input);
+    }
+    throw notSureHowToDeserialize(input);
+  }
+
+  private BuildableComponent<?, ?> readCompound(final CompoundBinaryTag input) {
+    final ComponentBuilder<?, ?> builder;
+    final @Nullable BinaryTag text = input.get(TEXT);
+    if (text != null) {
+      builder = Component.text().content(asString(text));
+    } else if (input.get(TRANSLATE) != null) {
+      builder = Component.translatable().key(input.getString(TRANSLATE)).args(this.deserializeList(input.get(TRANSLATE_WITH)));
+    } else if (input.get(SCORE) != null) {
+      final CompoundBinaryTag score = input.getCompound(SCORE);
+      if (score.get(SCORE_NAME) == null || score.get(SCORE_OBJECTIVE) == null) {
+        throw new IllegalArgumentException("A score component requires a " + SCORE_NAME + " and " + SCORE_OBJECTIVE);
+      }
+      final ScoreComponent.Builder scoreBuilder = Component.score().name(score.getString(SCORE_NAME)).objective(score.getString(SCORE_OBJECTIVE));
+      if (score.get(SCORE_VALUE) != null) {
+        scoreBuilder.value(score.getString(SCORE_VALUE));
+      }
+      builder = scoreBuilder;
+    } else if (input.get(SELECTOR) != null) {
+      builder = Component.selector().pattern(input.getString(SELECTOR)).separator(this.deserializeOrNull(input.get(SEPARATOR)));
+    } else if (input.get(KEYBIND) != null) {
+      builder = Component.keybind().keybind(input.getString(KEYBIND));
+    } else if (input.get(NBT) != null) {
+      final String nbt = input.getString(NBT);
+      final boolean interpret = asBoolean(input.get(NBT_INTERPRET));
+      final @Nullable Component separator = this.deserializeOrNull(input.get(SEPARATOR));
+      if (input.get(NBT_BLOCK) != null) {
+        builder = nbt(Component.blockNBT(), nbt, interpret, separator).pos(BlockNBTComponent.Pos.fromString(input.getString(NBT_BLOCK)));
+      } else if (input.get(NBT_ENTITY) != null) {
+        builder = nbt(Component.entityNBT(), nbt, interpret, separator).selector(input.getString(NBT_ENTITY));
+      } else if (input.get(NBT_STORAGE) != null) {
+        builder = nbt(Component.storageNBT(), nbt, interpret, separator).storage(Key.key(input.getString(NBT_STORAGE)));
+      } else {
+        throw notSureHowToDeserialize(input);
+      }
+    } else {
+      throw notSureHowToDeserialize(input);
+    }
+
+    return builder
+      .style(this.deserializeStyle(input))
+      .append(this.deserializeList(input.get(EXTRA)))
+      .build();
+  }
+
+  private List<Component> deserializeList(final @Nullable BinaryTag input) {
+    if (!(input instanceof ListBinaryTag)) return new ArrayList<>();
+    final ListBinaryTag list = (ListBinaryTag) input;
+    final List<Component> components = new ArrayList<>(list.size());
+    for (int i = 0, size = list.size(); i < size; i++) {
+      components.add(this.deserialize(list.get(i)));
+    }
+    return components;
+  }
+
+  private Style deserializeStyle(final CompoundBinaryTag input) {
+    final Style.Builder style = Style.style();
+
+    if (input.get(FONT) != null) {
+      style.font(Key.key(input.getString(FONT)));
+    }
+    if (input.get(COLOR) != null) {
+      style.color(colorFromString(input.getString(COLOR)));
+    }
+    for (final TextDecoration decoration : DECORATIONS) {
+      final @Nullable BinaryTag state = input.get(TextDecoration.NAMES.key(decoration));
+      if (state != null) {
+        style.decoration(decoration, asBoolean(state));
+      }
+    }
+    if (input.get(INSERTION) != null) {
+      style.insertion(input.getString(INSERTION));
+    }
+
+    final @Nullable BinaryTag clickEvent = input.get(CLICK_EVENT);
+    if (clickEvent instanceof CompoundBinaryTag) {
+      final CompoundBinaryTag click = (CompoundBinaryTag) clickEvent;
+      final ClickEvent.@Nullable Action action = ClickEvent.Action.NAMES.value(click.getString(CLICK_EVENT_ACTION));
+      if (action != null && action.readable() && click.get(CLICK_EVENT_VALUE) != null) {
+        style.clickEvent(ClickEvent.clickEvent(action, click.getString(CLICK_EVENT_VALUE)));
+      }
+    }
+
+    final @Nullable BinaryTag hoverEvent = input.get(HOVER_EVENT);
+    if (hoverEvent instanceof CompoundBinaryTag) {
+      final @Nullable HoverEvent<?> event = this.deserializeHoverEvent((CompoundBinaryTag) hoverEvent);
+      if (event != null) {
+        style.hoverEvent(event);
+      }
+    }
+
+    return style.build();
+  }
+
+  private @Nullable HoverEvent<?> deserializeHoverEvent(final CompoundBinaryTag input) {
+    final HoverEvent.@Nullable Action<?> action = HoverEvent.Action.NAMES.value(input.getString(HOVER_EVENT_ACTION));
+    final @Nullable BinaryTag contents = input.get(HOVER_EVENT_CONTENTS);
+    if (action == null || !action.readable() || contents == null) return null;
+
+    if (action == HoverEvent.Action.SHOW_TEXT) {
+      return HoverEvent.showText(this.deserialize(contents));
+    } else if (action == HoverEvent.Action.SHOW_ITEM) {
+      if (contents instanceof StringBinaryTag) {
+        return HoverEvent.showItem(Key.key(((StringBinaryTag) contents).value()), 1);
+      } else if (!(contents instanceof CompoundBinaryTag)) {
+        throw notSureHowToDeserialize(contents);
+      }
+      final CompoundBinaryTag item = (CompoundBinaryTag) contents;
+      final int count = item.get(SHOW_ITEM_COUNT) instanceof NumberBinaryTag ? item.getInt(SHOW_ITEM_COUNT) : 1;
+      final @Nullable BinaryTag tag = item.get(SHOW_ITEM_TAG);
+      final @Nullable BinaryTagHolder nbt;
+      if (tag instanceof CompoundBinaryTag) {
+        try {
+          nbt = BinaryTagHolder.binaryTagHolder(TagStringIO.get().asString((CompoundBinaryTag) tag));
+        } catch (final IOException ex) {
+          throw new IllegalArgumentException("Could not read the tag of an item", ex);
+        }
+      } else {
+        nbt = tag == null ? null : BinaryTagHolder.binaryTagHolder(asString(tag));
+      }
+      return HoverEvent.showItem(Key.key(item.getString(SHOW_ITEM_ID)), count, nbt);
+    } else if (action == HoverEvent.Action.SHOW_ENTITY) {
+      if (!(contents instanceof CompoundBinaryTag)) throw notSureHowToDeserialize(contents);
+      final CompoundBinaryTag entity = (CompoundBinaryTag) contents;
+      return HoverEvent.showEntity(
+        Key.key(entity.getString(SHOW_ENTITY_TYPE)),
+        uuid(entity.get(SHOW_ENTITY_ID)),
+        this.deserializeOrNull(entity.get(SHOW_ENTITY_NAME))
+      );
+    }
+    return null;
+  }
+
+  @Override
+  public @NotNull BinaryTag serialize(final @NotNull Component component) {
+    if (component instanceof TextComponent && !component.hasStyling() && component.children().isEmpty()) {
+      return StringBinaryTag.of(((TextComponent) component).content());
+    }
+    return this.serializeToCompound(component);
+  }
+
+  @Override
+  public @NotNull CompoundBinaryTag serializeToCompound(final @NotNull Component component) {
+    final CompoundBinaryTag.Builder builder = CompoundBinaryTag.builder();
+
+    if (component instanceof TextComponent) {
+      builder.putString(TEXT, ((TextComponent) component).content());
+    } else if (component instanceof TranslatableComponent) {
+      final TranslatableComponent translatable = (TranslatableComponent) component;
+      builder.putString(TRANSLATE, translatable.key());
+      if (!translatable.args().isEmpty()) {
+        builder.put(TRANSLATE_WITH, this.serializeList(translatable.args()));
+      }
+    } else if (component instanceof ScoreComponent) {
+      final ScoreComponent score = (ScoreComponent) component;
+      final CompoundBinaryTag.Builder scoreBuilder = CompoundBinaryTag.builder()
+        .putString(SCORE_NAME, score.name())
+        .putString(SCORE_OBJECTIVE, score.objective());
+      if (score.value() != null) {
+        scoreBuilder.putString(SCORE_VALUE, score.value());
+      }
+      builder.put(SCORE, scoreBuilder.build());
+    } else if (component instanceof SelectorComponent) {
+      final SelectorComponent selector = (SelectorComponent) component;
+      builder.putString(SELECTOR, selector.pattern());
+      this.serializeSeparator(builder, selector.separator());
+    } else if (component instanceof KeybindComponent) {
+      builder.putString(KEYBIND, ((KeybindComponent) component).keybind());
+    } else if (component instanceof NBTComponent) {
+      final NBTComponent<?, ?> nbt = (NBTComponent<?, ?>) component;
+      builder.putString(NBT, nbt.nbtPath());
+      builder.putBoolean(NBT_INTERPRET, nbt.interpret());
+      this.serializeSeparator(builder, nbt.separator());
+      if (component instanceof BlockNBTComponent) {
+        builder.putString(NBT_BLOCK, ((BlockNBTComponent) component).pos().asString());
+      } else if (component instanceof EntityNBTComponent) {
+        builder.putString(NBT_ENTITY, ((EntityNBTComponent) component).selector());
+      } else if (component instanceof StorageNBTComponent) {
+        builder.putString(NBT_STORAGE, ((StorageNBTComponent) component).storage().asString());
+      } else {
+        throw notSureHowToSerialize(component);
+      }
+    } else {
+      throw notSureHowToSerialize(component);
+    }
+
+    if (component.hasStyling()) {
+      this.serializeStyle(builder, component.style());
+    }
+    if (!component.children().isEmpty()) {
+      builder.put(EXTRA, this.serializeList(component.children()));
+    }
+
+    return builder.build();
+  }
+
+  private ListBinaryTag serializeList(final List<Component> components) {
+    // list tags hold a single element type, so text only collapses when every element does
+    final List<BinaryTag> tags = new ArrayList<>(components.size());
+    boolean collapsed = true;
+    for (final Component component : components) {
+      final BinaryTag tag = this.serialize(component);
+      collapsed &= tag instanceof StringBinaryTag;
+      tags.add(tag);
+    }
+    if (!collapsed) {
+      for (int i = 0, size = tags.size(); i < size; i++) {
+        final BinaryTag tag = tags.get(i);
+        if (tag instanceof StringBinaryTag) {
+          tags.set(i, CompoundBinaryTag.builder().put(TEXT, tag).build());
+        }
+      }
+    }
+    return ListBinaryTag.from(tags);
+  }
+
+  private void serializeSeparator(final CompoundBinaryTag.Builder builder, final @Nullable Component separator) {
+    if (separator != null) {
+      builder.put(SEPARATOR, this.serialize(separator));
+    }
+  }
+
+  private void serializeStyle(final CompoundBinaryTag.Builder builder, final Style style) {
+    final @Nullable Key font = style.font();
+    if (font != null) {
+      builder.putString(FONT, font.asString());
+    }
+    final @Nullable TextColor color = style.color();
+    if (color != null) {
+      builder.putString(COLOR, color instanceof NamedTextColor ? NamedTextColor.NAMES.key((NamedTextColor) color) : color.asHexString());
+    }
+    for (final TextDecoration decoration : DECORATIONS) {
+      final TextDecoration.State state = style.decoration(decoration);
+      if (state != TextDecoration.State.NOT_SET) {
+        builder.putBoolean(TextDecoration.NAMES.key(decoration), state == TextDecoration.State.TRUE);
+      }
+    }
+    final @Nullable String insertion = style.insertion();
+    if (insertion != null) {
+      builder.putString(INSERTION, insertion);
+    }
+    final @Nullable ClickEvent clickEvent = style.clickEvent();
+    if (clickEvent != null) {
+      builder.put(CLICK_EVENT, CompoundBinaryTag.builder()
+        .putString(CLICK_EVENT_ACTION, ClickEvent.Action.NAMES.key(clickEvent.action()))
+        .putString(CLICK_EVENT_VALUE, clickEvent.value())
+        .build());
+    }
+    final @Nullable HoverEvent<?> hoverEvent = style.hoverEvent();
+    if (hoverEvent != null) {
+      builder.put(HOVER_EVENT, CompoundBinaryTag.builder()
+        .putString(HOVER_EVENT_ACTION, HoverEvent.Action.NAMES.key(hoverEvent.action()))
+        .put(HOVER_EVENT_CONTENTS, this.serializeHoverContents(hoverEvent))
+        .build());
+    }
+  }
+
+  private BinaryTag serializeHoverContents(final HoverEvent<?> event) {
+    final Object value = event.value();
+    if (value instanceof Component) {
+      return this.serialize((Component) value);
+    } else if (value instanceof HoverEvent.ShowItem) {
+      final HoverEvent.ShowItem item = (HoverEvent.ShowItem) value;
+      final CompoundBinaryTag.Builder builder = CompoundBinaryTag.builder()
+        .putString(SHOW_ITEM_ID, item.item().asString());
+      if (item.count() != 1) {
+        builder.putInt(SHOW_ITEM_COUNT, item.count());
+      }
+      final @Nullable BinaryTagHolder nbt = item.nbt();
+      if (nbt != null) {
+        builder.putString(SHOW_ITEM_TAG, nbt.string());
+      }
+      return builder.build();
+    } else if (value instanceof HoverEvent.ShowEntity) {
+      final HoverEvent.ShowEntity entity = (HoverEvent.ShowEntity) value;
+      final CompoundBinaryTag.Builder builder = CompoundBinaryTag.builder()
+        .putString(SHOW_ENTITY_TYPE, entity.type().asString())
+        .putIntArray(SHOW_ENTITY_ID, intArray(entity.id()));
+      final @Nullable Component name = entity.name();
+      if (name != null) {
+        builder.put(SHOW_ENTITY_NAME, this.serialize(name));
+      }
+      return builder.build();
+    }
+    throw new IllegalArgumentException("Don't know how to serialize " + value + " as hover event contents");
+  }
+
+  private static <C extends NBTComponent<C, B>, B extends NBTComponentBuilder<C, B>> B nbt(final B builder, final String nbt, final boolean interpret, final @Nullable Component separator) {
+    return builder
+      .nbtPath(nbt)
+      .interpret(interpret)
+      .separator(separator);
+  }
+
+  private static @Nullable TextColor colorFromString(final String value) {
+    if (value.startsWith("#")) {
+      return TextColor.fromHexString(value);
+    } else {
+      return NamedTextColor.NAMES.value(value);
+    }
+  }
+
+  private static String asString(final BinaryTag tag) {
+    if (tag instanceof StringBinaryTag) {
+      return ((StringBinaryTag) tag).value();
+    }
+    throw new IllegalArgumentException("Tag of type " + tag.type() + " cannot be interpreted as a string");
+  }
+
+  private static boolean asBoolean(final @Nullable BinaryTag tag) {
+    if (tag instanceof NumberBinaryTag) {
+      return ((NumberBinaryTag) tag).byteValue() != 0;
+    } else if (tag instanceof StringBinaryTag) {
+      return Boolean.parseBoolean(((StringBinaryTag) tag).value());
+    }
+    return false;
+  }
+
+  private static int[] intArray(final UUID id) {
+    final long most = id.getMostSignificantBits();
+    final long least = id.getLeastSignificantBits();
+    return new int[] {(int) (most >> 32), (int) most, (int) (least >> 32), (int) least};
+  }
+
+  private static UUID uuid(final @Nullable BinaryTag tag) {
+    if (tag instanceof IntArrayBinaryTag && ((IntArrayBinaryTag) tag).size() == 4) {
+      final int[] value = ((IntArrayBinaryTag) tag).value();
+      return new UUID((long) value[0] << 32 | (value[1] & 0xffffffffL), (long) value[2] << 32 | (value[3] & 0xffffffffL));
+    } else if (tag instanceof StringBinaryTag) {
+      return UUID.fromString(((StringBinaryTag) tag).value());
+    }
+    throw new IllegalArgumentException("Don't know how to turn " + tag + " into a UUID");
+  }
+
+  private static IllegalArgumentException notSureHowToDeserialize(final Object element) {
+    return new IllegalArgumentException("Don't know how to turn " + element + " into a Component");
+  }
+
+  private static IllegalArgumentException notSureHowToSerialize(final Component component) {
+    return new IllegalArgumentException("Don't know how to serialize " + component + " as a Component");
+  }
+}
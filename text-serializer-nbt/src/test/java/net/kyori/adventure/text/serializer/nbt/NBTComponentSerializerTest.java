@@ -0,0 +1,109 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2022 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text.serializer.nbt;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import net.kyori.adventure.nbt.BinaryTag;
+import net.kyori.adventure.nbt.BinaryTagIO;
+import net.kyori.adventure.nbt.BinaryTagTypes;
+import net.kyori.adventure.nbt.CompoundBinaryTag;
+import net.kyori.adventure.nbt.ListBinaryTag;
+import net.kyori.adventure.nbt.StringBinaryTag;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.RoundTripComponents;
+import net.kyori.adventure.text.event.HoverEvent;
+import net.kyori.adventure.text.format.Style;
+import net.kyori.adventure.text.format.TextDecoration;
+import net.kyori.adventure.text.serializer.gson.GsonComponentSerializer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class NBTComponentSerializerTest {
+  @Test
+  void testRoundTrip() {
+    for (final Component component : RoundTripComponents.components()) {
+      final BinaryTag tag = NBTComponentSerializer.nbt().serialize(component);
+      assertEquals(component, NBTComponentSerializer.nbt().deserialize(tag));
+      // the same component as going through json text
+      assertEquals(GsonComponentSerializer.gson().deserialize(GsonComponentSerializer.gson().serialize(component)), NBTComponentSerializer.nbt().deserialize(tag));
+    }
+  }
+
+  @Test
+  void testBinaryTagIO() throws IOException {
+    for (final Component component : RoundTripComponents.components()) {
+      final ByteArrayOutputStream output = new ByteArrayOutputStream();
+      BinaryTagIO.writer().write(NBTComponentSerializer.nbt().serializeToCompound(component), output);
+      final CompoundBinaryTag read = BinaryTagIO.unlimitedReader().read(new ByteArrayInputStream(output.toByteArray()));
+      assertEquals(component, NBTComponentSerializer.nbt().deserialize(read));
+    }
+  }
+
+  @Test
+  void testTextCollapsesToString() {
+    assertEquals(StringBinaryTag.of("hello"), NBTComponentSerializer.nbt().serialize(Component.text("hello")));
+    assertEquals(
+      CompoundBinaryTag.builder().putString(NBTComponentSerializerImpl.TEXT, "hello").build(),
+      NBTComponentSerializer.nbt().serializeToCompound(Component.text("hello"))
+    );
+  }
+
+  @Test
+  void testMixedChildren() {
+    final CompoundBinaryTag plain = (CompoundBinaryTag) NBTComponentSerializer.nbt().serialize(Component.text("a").append(Component.text("b")));
+    assertEquals(BinaryTagTypes.STRING, plain.getList(NBTComponentSerializerImpl.EXTRA).elementType());
+
+    final CompoundBinaryTag mixed = (CompoundBinaryTag) NBTComponentSerializer.nbt().serialize(Component.text("a").append(Component.text("b")).append(Component.text("c", Style.style(TextDecoration.BOLD))));
+    final ListBinaryTag extra = mixed.getList(NBTComponentSerializerImpl.EXTRA);
+    assertEquals(BinaryTagTypes.COMPOUND, extra.elementType());
+    assertEquals("b", extra.getCompound(0).getString(NBTComponentSerializerImpl.TEXT));
+  }
+
+  @Test
+  void testDeserializeList() {
+    final ListBinaryTag list = ListBinaryTag.builder(BinaryTagTypes.STRING).add(StringBinaryTag.of("Hello, ")).add(StringBinaryTag.of("world.")).build();
+    assertEquals(Component.text("Hello, ").append(Component.text("world.")), NBTComponentSerializer.nbt().deserialize(list));
+    assertThrows(IllegalArgumentException.class, () -> NBTComponentSerializer.nbt().deserialize(ListBinaryTag.empty()));
+  }
+
+  @Test
+  void testMalformedHoverContents() {
+    for (final HoverEvent.Action<?> action : Arrays.asList(HoverEvent.Action.SHOW_ITEM, HoverEvent.Action.SHOW_ENTITY)) {
+      final CompoundBinaryTag hover = CompoundBinaryTag.builder()
+        .putString(NBTComponentSerializerImpl.HOVER_EVENT_ACTION, HoverEvent.Action.NAMES.key(action))
+        .putInt(NBTComponentSerializerImpl.HOVER_EVENT_CONTENTS, 1)
+        .build();
+      final CompoundBinaryTag input = CompoundBinaryTag.builder()
+        .putString(NBTComponentSerializerImpl.TEXT, "hover")
+        .put(NBTComponentSerializerImpl.HOVER_EVENT, hover)
+        .build();
+      assertThrows(IllegalArgumentException.class, () -> NBTComponentSerializer.nbt().deserialize(input));
+    }
+  }
+}